@@ -0,0 +1,92 @@
+package ssedamseedam.ssedam;
+
+import org.openjdk.jmh.annotations.*;
+import ssedamseedam.ssedam.datasource.ConnectionPermitDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 요청 수별 한 묶음 처리 시간 (지연이 무너지는 동시성 찾기)
+ * - 합성 벤치마크: 추론 서버 호출과 쿼리는 Thread.sleep 대역, DB 도 가짜 연결 → 수치는 스레드 모델 비교용이지 실제 지연이 아님
+ * - 요청 하나 = 추론 서버 대기(sleep) + 연결 허가(실제 ConnectionPermitDataSource, 풀 하나 크기) 안에서 짧은 쿼리 대기
+ * - platform: Tomcat 기본과 같은 200 스레드 풀 → 동시 요청이 200 을 넘으면 대기열 때문에 시간이 계단식으로 늘어남
+ * - virtual: 요청마다 가상 스레드 (Java 21 필요: ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=BlockingConcurrency)
+ * - 실제 서버 비교는 같은 부하를 spring.threads.virtual.enabled=false/true 로 띄운 서버에 걸어 p99 확인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BlockingConcurrencyBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final long INFERENCE_MS = 50;
+    private static final long QUERY_MS = 1;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"100", "200", "400", "800", "1600"})
+    public int concurrency;
+
+    private ExecutorService executor;
+    private ConnectionPermitDataSource dataSource;
+
+    @Setup
+    public void setup() throws Exception {
+        executor = switch (mode) {
+            case "platform" -> Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            // 17 로 컴파일되도록 리플렉션 (21 미만이면 여기서 실패)
+            case "virtual" -> (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            default -> throw new IllegalArgumentException(mode);
+        };
+        dataSource = new ConnectionPermitDataSource(fakePool(), "primary", POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /** concurrency 개 요청을 한꺼번에 넣고 전부 끝날 때까지 */
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(this::request));
+        }
+        int done = 0;
+        for (Future<Integer> f : futures) {
+            done += f.get();
+        }
+        return done;
+    }
+
+    private int request() throws Exception {
+        Thread.sleep(INFERENCE_MS);
+        try (Connection ignored = dataSource.getConnection()) {
+            Thread.sleep(QUERY_MS);
+        }
+        return 1;
+    }
+
+    /** 연결을 바로 내주는 가짜 풀 (close 는 아무것도 안 함) */
+    private static DataSource fakePool() {
+        Connection connection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> "getConnection".equals(method.getName()) ? connection : null);
+    }
+}
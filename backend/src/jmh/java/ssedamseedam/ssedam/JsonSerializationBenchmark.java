@@ -0,0 +1,81 @@
+package ssedamseedam.ssedam;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import ssedamseedam.ssedam.dto.AnalyzeImageResponseDto;
+import ssedamseedam.ssedam.dto.GeminiAdviceItemDto;
+import ssedamseedam.ssedam.dto.PostSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 JSON 직렬화 (스프링 부트 기본 ObjectMapper 설정과 동일하게)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private Page<PostSummaryResponse> page;
+    private AnalyzeImageResponseDto analyze;
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<PostSummaryResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            items.add(PostSummaryResponse.builder()
+                    .id((long) i)
+                    .category("TIP")
+                    .title("페트병 라벨 떼는 법 " + i)
+                    .writer("닉네임" + (i % 7))
+                    .likeCount(i * 3)
+                    .commentCount(i % 11)
+                    .createdAt(base.minusMinutes(i))
+                    .content("본문 미리보기 ".repeat(10))
+                    .hasPhoto(i % 3 == 0)
+                    .authorId((long) (i % 7))
+                    .build());
+        }
+        page = new PageImpl<>(items, PageRequest.of(0, pageSize), 1_000);
+
+        List<GeminiAdviceItemDto> advice = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            GeminiAdviceItemDto item = new GeminiAdviceItemDto();
+            item.setObject("plastic_bottle_" + i);
+            item.setLabel("플라스틱");
+            item.setInstruction("내용물을 비우고 라벨을 제거한 뒤 찌그러뜨려 배출하세요.");
+            advice.add(item);
+        }
+        analyze = new AnalyzeImageResponseDto();
+        analyze.setGeminiAdvice(advice);
+        analyze.setTempPath("/tmp/upload/abc123.jpg");
+        analyze.setModel("yolo-v8");
+    }
+
+    @Benchmark
+    public byte[] postSummaryPage() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] analyzeImageResponse() throws Exception {
+        return mapper.writeValueAsBytes(analyze);
+    }
+}
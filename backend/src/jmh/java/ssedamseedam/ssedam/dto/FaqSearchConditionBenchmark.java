@@ -0,0 +1,41 @@
+package ssedamseedam.ssedam.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FAQ 검색 조건 정규화 (FaqService.search 요청마다 실행)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class FaqSearchConditionBenchmark {
+
+    private FaqSearchCondition typical;
+    private FaqSearchCondition empty;
+
+    @Setup
+    public void setup() {
+        typical = new FaqSearchCondition();
+        typical.setQ("  페트병 Label 제거  ");
+        typical.setCategory(" 플라스틱 ");
+        typical.setWasteType("PET");
+        typical.setExcludeWasteTypes(Arrays.asList(" 유리 ", "", null, "캔"));
+        typical.setPage(2);
+        typical.setSize(500);
+
+        empty = new FaqSearchCondition();
+    }
+
+    @Benchmark
+    public FaqSearchCondition.Normalized typical() {
+        return typical.normalize();
+    }
+
+    @Benchmark
+    public FaqSearchCondition.Normalized empty() {
+        return empty.normalize();
+    }
+}
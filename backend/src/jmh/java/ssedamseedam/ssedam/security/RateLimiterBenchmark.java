@@ -0,0 +1,39 @@
+package ssedamseedam.ssedam.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 빈도 제한 판정 비용 (요청당 ns)
+ * - sameKey: 한 키에 여러 스레드가 몰릴 때 (CAS 경합)
+ * - manyKeys: 키가 흩어져 있을 때 (맵 조회 + 버킷 생성)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private RateLimiter limiter;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        // 거절 경로도 같이 재도록 넉넉하지 않은 한도
+        limiter = new RateLimiter(true, 1_000_000, "100/1s", "100/1s", "100/1s");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimiter.Decision sameKey() {
+        return limiter.tryAcquire(RateLimiter.Group.FAQ_SEARCH, "ip127.0.0.1");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimiter.Decision manyKeys() {
+        long n = counter.incrementAndGet() & 0xFFFF;
+        return limiter.tryAcquire(RateLimiter.Group.FAQ_SEARCH, "u" + n);
+    }
+}
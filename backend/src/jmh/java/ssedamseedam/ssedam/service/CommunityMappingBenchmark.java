@@ -0,0 +1,84 @@
+package ssedamseedam.ssedam.service;
+
+import org.openjdk.jmh.annotations.*;
+import ssedamseedam.ssedam.domain.PostCategory;
+import ssedamseedam.ssedam.dto.CommentResponse;
+import ssedamseedam.ssedam.dto.CommentRow;
+import ssedamseedam.ssedam.dto.PostSummaryResponse;
+import ssedamseedam.ssedam.dto.PostSummaryRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커뮤니티 응답 조립
+ * - 목록: PostSummaryRow → PostSummaryResponse (한 페이지) + 요청마다 liked/mine 덮어쓰기
+ * - 댓글: 평평한 CommentRow 목록 → 트리 (CommunityService.buildCommentTree)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CommunityMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    /** 전체 댓글 수 (부모 : 대댓글 = 1 : 3) */
+    @Param({"40", "400"})
+    public int commentCount;
+
+    private List<PostSummaryRow> rows;
+    private List<CommentRow> comments;
+
+    @Setup
+    public void setup() {
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 12, 0);
+        PostCategory[] categories = PostCategory.values();
+
+        rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(new PostSummaryRow((long) i, categories[i % categories.length], "제목 " + i,
+                    (long) (i % 7), "닉네임" + (i % 7), i * 3, i % 11, base.minusMinutes(i),
+                    "본문 미리보기 ".repeat(10), i % 3 == 0));
+        }
+
+        comments = new ArrayList<>(commentCount);
+        long parentId = 0;
+        for (int i = 0; i < commentCount; i++) {
+            boolean top = i % 4 == 0;
+            if (top) parentId = i;
+            comments.add(new CommentRow((long) i, top ? null : parentId, "닉네임" + (i % 13),
+                    "댓글 내용 " + i, i % 5, base.plusSeconds(i)));
+        }
+    }
+
+    @Benchmark
+    public List<PostSummaryResponse> summaryPage() {
+        List<PostSummaryResponse> out = new ArrayList<>(rows.size());
+        for (PostSummaryRow r : rows) {
+            out.add(PostSummaryResponse.of(r));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<PostSummaryResponse> summaryPageWithUserOverlay() {
+        Long currentUserId = 3L;
+        List<PostSummaryResponse> out = new ArrayList<>(rows.size());
+        for (PostSummaryRow r : rows) {
+            PostSummaryResponse s = PostSummaryResponse.of(r);
+            out.add(s.toBuilder()
+                    .liked(r.getId() % 2 == 0)
+                    .mine(currentUserId.equals(s.getAuthorId()))
+                    .build());
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentTree() {
+        return CommunityService.buildCommentTree(comments, id -> id % 2 == 0);
+    }
+}
@@ -0,0 +1,52 @@
+package ssedamseedam.ssedam.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ssedamseedam.ssedam.domain.User;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 비밀번호 확인 지연 분포 (SampleTime → p50/p99 출력)
+ * - bcrypt: 해시 스레드 하나가 처리하는 한 건의 비용 (처리량 상한 ≈ 스레드 수 / 이 값)
+ * - credentialCache: 최근 로그인 성공한 사용자의 재로그인 경로
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LoginVerificationBenchmark {
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    private BCryptPasswordEncoder encoder;
+    private CredentialCache cache;
+    private User user;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        user = User.builder()
+                .id(1L)
+                .username("tester")
+                .nickname("테스터")
+                .name("테스터")
+                .password(encoder.encode(PASSWORD))
+                .build();
+        cache = new CredentialCache(Duration.ofMinutes(5), 10_000);
+        cache.put(user, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean bcrypt() {
+        return encoder.matches(PASSWORD, user.getPassword());
+    }
+
+    @Benchmark
+    public boolean credentialCache() {
+        return cache.matches(user, PASSWORD);
+    }
+}
@@ -0,0 +1,68 @@
+package ssedamseedam.ssedam.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 분석 요청의 multipart 본문 만들기 (AiAnalyzeService 와 같은 방식)
+ * - 업로드 스트림을 MultipartInputStreamFileResource 로 감싸서 form-data 로 쓰기까지
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MultipartResourceBenchmark {
+
+    /** 이미지 크기 (byte) */
+    @Param({"65536", "2097152"})
+    public int imageSize;
+
+    private byte[] image;
+    private FormHttpMessageConverter converter;
+    private ByteArrayOutputStream sink;
+
+    @Setup
+    public void setup() {
+        image = new byte[imageSize];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (i * 31);
+        }
+        converter = new FormHttpMessageConverter();
+        sink = new ByteArrayOutputStream(imageSize + 4096);
+    }
+
+    @Benchmark
+    public MultipartInputStreamFileResource wrapOnly() {
+        return new MultipartInputStreamFileResource(new ByteArrayInputStream(image), "photo.jpg");
+    }
+
+    @Benchmark
+    public int wrapAndWriteFormData() throws Exception {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("image", new MultipartInputStreamFileResource(new ByteArrayInputStream(image), "photo.jpg"));
+
+        sink.reset();
+        HttpHeaders headers = new HttpHeaders();
+        converter.write(body, MediaType.MULTIPART_FORM_DATA, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return sink;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+        return sink.size();
+    }
+}
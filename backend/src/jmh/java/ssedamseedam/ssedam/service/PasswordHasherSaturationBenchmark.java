@@ -0,0 +1,87 @@
+package ssedamseedam.ssedam.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 풀이 대기열 상한을 넘을 때의 로그인 지연과 거절률
+ * - 클라이언트 32 스레드가 쉬지 않고 matches 요청, 해시 스레드 2개 + 대기열 queue 개를 넘는 요청은 바로 거절 (→ 503)
+ * - 거절된 클라이언트는 RETRY_BACKOFF_MS 쉬고 다시 시도 (Retry-After 를 줄여 흉내, 거절 루프가 CPU 를 뺏지 않게)
+ * - 보조 카운터 accepted/rejected: 초당 건수 → 거절률 = rejected / (accepted + rejected)
+ * - 받아들여진 요청의 p50/p99 (대기 + bcrypt) 는 반복마다 직접 계산해 출력
+ *   (즉시 반환되는 거절이 섞이면 JMH 의 SampleTime 백분위가 거절 분포로 덮이므로 따로 셈)
+ * - queue 는 클라이언트 수(32)보다 작게 잡아 항상 넘치게 함, 키우면 거절은 줄고 p99 는 대기열 길이만큼 늘어남
+ *   (auth.password.hash-queue 설정 근거)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PasswordHasherSaturationBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+    private static final int HASH_THREADS = 2;
+    private static final long RETRY_BACKOFF_MS = 10;
+
+    @Param({"4", "8", "16"})
+    public int queue;
+
+    private PasswordHasher hasher;
+    private String encoded;
+
+    /** 받아들여진 요청의 지연(ns), 반복마다 비움 (bcrypt 라 초당 수십 건 → 큐 경합 무시 가능) */
+    private final ConcurrentLinkedQueue<Long> acceptedNanos = new ConcurrentLinkedQueue<>();
+
+    /** 스레드별 결과 수 (JMH 가 합쳐서 초당 건수로 출력) */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long accepted;
+        public long rejected;
+    }
+
+    @Setup
+    public void setup() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+        encoded = encoder.encode(PASSWORD);
+        hasher = new PasswordHasher(encoder, HASH_THREADS, queue);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportLatency() {
+        long[] sorted = acceptedNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        acceptedNanos.clear();
+        if (sorted.length == 0) return;
+        System.out.printf("accepted=%d p50=%.1fms p99=%.1fms%n",
+                sorted.length, percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+    }
+
+    @TearDown
+    public void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean login(Outcomes outcomes) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            boolean ok = hasher.matches(PASSWORD, encoded).join();
+            acceptedNanos.add(System.nanoTime() - start);
+            outcomes.accepted++;
+            return ok;
+        } catch (PasswordHashingBusyException e) {
+            outcomes.rejected++;
+            Thread.sleep(RETRY_BACKOFF_MS);
+            return false;
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double p) {
+        int idx = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, idx)] / 1_000_000.0;
+    }
+}
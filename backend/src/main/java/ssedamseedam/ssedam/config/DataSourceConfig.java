@@ -0,0 +1,111 @@
+package ssedamseedam.ssedam.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import ssedamseedam.ssedam.datasource.ConnectionPermitDataSource;
+import ssedamseedam.ssedam.datasource.ReadYourWrites;
+import ssedamseedam.ssedam.datasource.ReplicaPool;
+import ssedamseedam.ssedam.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 (datasource.replicas.urls 가 있을 때만, 없으면 Spring Boot 기본 단일 DataSource)
+ * - primary: spring.datasource.* / spring.datasource.hikari.*
+ * - 복제본: urls 마다 Hikari 풀 하나 (계정은 primary 와 같음, 읽기 전용 연결)
+ * - 풀 지표는 풀 이름(primary, replica-N)별로 hikaricp.* 로 나감
+ * - 가상 스레드 모드면 풀마다 따로 ConnectionPermitDataSource 로 감쌈 (허가 수 = 그 풀 크기)
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class DataSourceConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${datasource.connection-permit-timeout:5s}")
+    private Duration permitTimeout;
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return ds;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${datasource.replicas.urls}") String urls,
+                                   @Value("${datasource.replicas.pool-size:10}") int poolSize,
+                                   @Value("${datasource.replicas.max-lag:5s}") Duration maxLag) {
+        List<String> replicaUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+
+        List<DataSource> pools = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource ds = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i))
+                    .build();
+            ds.setPoolName("replica-" + i);
+            ds.setMaximumPoolSize(poolSize);
+            ds.setReadOnly(true);
+            ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(withPermits(ds, meterRegistry));
+        }
+
+        ReplicaPool pool = new ReplicaPool(pools, maxLag);
+        for (ReplicaPool.Replica r : pool.replicas()) {
+            Gauge.builder("datasource.replica.lag", r, ReplicaPool.Replica::lagSeconds)
+                    .description("복제 지연 (초, -1 = 사용 불가)")
+                    .baseUnit("seconds")
+                    .tag("target", r.key())
+                    .register(meterRegistry);
+        }
+        return pool;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${datasource.replicas.read-your-writes:10s}") Duration window) {
+        return new ReadYourWrites(window, 100_000);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaPool replicaPool,
+                                 ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                withPermits(primaryDataSource, meterRegistry), replicaPool, readYourWrites, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /** 가상 스레드 모드면 풀 하나를 그 풀 크기만큼의 연결 허가로 감쌈 (아니면 그대로) */
+    private DataSource withPermits(HikariDataSource pool, MeterRegistry meterRegistry) {
+        if (!virtualThreads) return pool;
+        ConnectionPermitDataSource permits = ConnectionPermitDataSource.forPool(pool, pool.getPoolName(), permitTimeout);
+        permits.registerMetrics(meterRegistry);
+        return permits;
+    }
+}
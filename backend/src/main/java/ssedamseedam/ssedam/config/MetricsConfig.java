@@ -0,0 +1,90 @@
+package ssedamseedam.ssedam.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ssedamseedam.ssedam.security.RateLimiter;
+import ssedamseedam.ssedam.service.CredentialCache;
+import ssedamseedam.ssedam.service.DraftAutosaver;
+import ssedamseedam.ssedam.service.HotFeedCache;
+import ssedamseedam.ssedam.service.NameAvailabilityFilter;
+import ssedamseedam.ssedam.service.PasswordHasher;
+import ssedamseedam.ssedam.service.PostLiveStream;
+import ssedamseedam.ssedam.service.PostSearchIndex;
+import ssedamseedam.ssedam.service.UserLikeIndex;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 인메모리 구성 요소 게이지 (/actuator/prometheus 로 노출)
+ * - HTTP 요청/리포지토리 호출/Hikari/Hibernate 지표는 Spring Boot 자동 구성이 담당
+ * - 여기서는 캐시 적중률, 대기열/구독자 수처럼 우리 코드에만 있는 값만 등록
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder communityMetrics(HotFeedCache hotFeedCache,
+                                        UserLikeIndex userLikeIndex,
+                                        PostSearchIndex postSearchIndex,
+                                        PostLiveStream postLiveStream,
+                                        DraftAutosaver draftAutosaver) {
+        return registry -> {
+            Gauge.builder("community.hot_feed.hit_ratio", hotFeedCache, HotFeedCache::hitRate)
+                    .description("최신글 스냅샷 적중률")
+                    .register(registry);
+            Gauge.builder("community.like_index.users", userLikeIndex, UserLikeIndex::userCount)
+                    .register(registry);
+            Gauge.builder("community.like_index.bytes", userLikeIndex, UserLikeIndex::bitmapBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("community.like_index.hit_ratio", userLikeIndex, UserLikeIndex::hitRate)
+                    .register(registry);
+            statsGauge(registry, "community.search.live_docs", postSearchIndex::stats, "liveDocs");
+            statsGauge(registry, "community.search.dead_docs", postSearchIndex::stats, "deadDocs");
+            statsGauge(registry, "community.search.terms", postSearchIndex::stats, "terms");
+            Gauge.builder("community.live.subscribers", postLiveStream, PostLiveStream::subscriberCount)
+                    .register(registry);
+            Gauge.builder("community.drafts.pending", draftAutosaver, DraftAutosaver::pendingCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder authMetrics(PasswordHasher passwordHasher,
+                                   CredentialCache credentialCache,
+                                   NameAvailabilityFilter nameFilter,
+                                   RateLimiter rateLimiter) {
+        return registry -> {
+            Gauge.builder("auth.password.in_flight", passwordHasher, PasswordHasher::inFlight)
+                    .description("해시 풀에서 실행/대기 중인 작업 수")
+                    .register(registry);
+            Gauge.builder("auth.credential_cache.hit_ratio", credentialCache, CredentialCache::hitRate)
+                    .register(registry);
+            for (String kind : new String[]{"username", "nickname"}) {
+                Supplier<Map<String, Object>> stats = () -> nested(nameFilter.stats(), kind);
+                statsGauge(registry, "auth.name_filter.insertions", stats, "insertions", "kind", kind);
+                statsGauge(registry, "auth.name_filter.expected_fpp", stats, "expectedFpp", "kind", kind);
+                statsGauge(registry, "auth.name_filter.false_positives", stats, "falsePositives", "kind", kind);
+            }
+            Gauge.builder("rate_limit.buckets", rateLimiter, RateLimiter::bucketCount)
+                    .register(registry);
+        };
+    }
+
+    /** stats() 맵의 숫자 값 하나를 게이지로 (값이 없으면 NaN) */
+    private static void statsGauge(MeterRegistry registry, String name,
+                                   Supplier<Map<String, Object>> stats, String key, String... tags) {
+        Gauge.builder(name, () -> stats.get().get(key) instanceof Number n ? n : Double.NaN)
+                .tags(tags)
+                .register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> nested(Map<String, Object> stats, String key) {
+        return stats.get(key) instanceof Map<?, ?> m ? (Map<String, Object>) m : Map.of();
+    }
+}
@@ -0,0 +1,35 @@
+package ssedamseedam.ssedam.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청당 SQL 예산 (N+1 감시)
+ * - QueryCounter 를 Hibernate StatementInspector 로 등록
+ * - QueryBudgetFilter 를 서블릿 필터로 등록 (보안 필터 뒤, 모든 /api 요청)
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        QueryCounter counter = new QueryCounter();
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(MeterRegistry meterRegistry,
+                                                                       @Value("${sql.query-budget.max:20}") int budget) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(meterRegistry, budget));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
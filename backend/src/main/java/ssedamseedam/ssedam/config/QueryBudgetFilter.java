@@ -0,0 +1,68 @@
+package ssedamseedam.ssedam.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * HTTP 요청마다 SQL 수 세기 → 지표 기록 + 예산 초과 시 경고
+ * - 지표: http.server.requests.queries (uri 패턴/메서드별 분포)
+ * - 예산을 넘으면 가장 많이 반복된 문장 모양을 같이 남김 (대개 N+1 지점)
+ * - 요청 스레드에서 실행된 SQL 만 셈: CompletableFuture 로 넘긴 작업(로그인/가입 해시 이후 등)은 빠짐
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, int budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            chain.doFilter(request, response);
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = (pattern == null) ? "UNKNOWN" : pattern.toString();
+        int count = scope.count();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 SQL 실행 수")
+                .tag("uri", uri)
+                .tag("method", request.getMethod())
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > budget) {
+            Map.Entry<String, Integer> top = scope.mostRepeated().orElse(Map.entry("", 0));
+            log.atWarn()
+                    .setMessage("SQL 예산 초과")
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("queries", count)
+                    .addKeyValue("budget", budget)
+                    .addKeyValue("repeated", top.getValue())
+                    .addKeyValue("statement", top.getKey())
+                    .log();
+        }
+    }
+}
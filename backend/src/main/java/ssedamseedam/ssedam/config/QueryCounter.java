@@ -0,0 +1,112 @@
+package ssedamseedam.ssedam.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 스레드별 SQL 실행 수 세기 (Hibernate StatementInspector)
+ * - open() 으로 연 범위 안에서 이 스레드가 보낸 SQL 만 셈 (범위 밖이면 아무것도 안 함)
+ * - 범위는 겹칠 수 있음: 안쪽 범위에서 센 SQL 은 바깥 범위에도 더해짐
+ * - 문장 모양(리터럴/IN 목록을 ? 로 접은 SQL)별로도 세서 N+1 을 찾는 데 씀
+ *
+ * 테스트에서 엔드포인트 쿼리 수 고정:
+ * <pre>
+ * try (QueryCounter.Scope scope = QueryCounter.open()) {
+ *     mockMvc.perform(get("/api/community/posts"));
+ *     scope.assertCount(3);
+ * }
+ * </pre>
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            String shape = shape(sql);
+            for (Scope s = scope; s != null; s = s.parent) {
+                s.record(shape);
+            }
+        }
+        return sql;
+    }
+
+    /** 현재 스레드에서 세기 시작 (close 하면 바깥 범위로 돌아감) */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static String shape(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("(?)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    /** 한 번의 세기 범위 (한 스레드 안에서만 쓰므로 동기화 없음) */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String shape) {
+            count++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /** 가장 많이 반복된 문장 모양과 횟수 (N+1 이면 같은 select 가 행 수만큼 나옴) */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return shapes.entrySet().stream().max(Comparator.comparingInt(Map.Entry::getValue));
+        }
+
+        public Map<String, Integer> shapes() {
+            return Map.copyOf(shapes);
+        }
+
+        public void assertCount(int expected) {
+            if (count != expected) {
+                throw new AssertionError("SQL " + expected + "건 예상, 실제 " + count + "건: " + shapes);
+            }
+        }
+
+        public void assertAtMost(int max) {
+            if (count > max) {
+                throw new AssertionError("SQL 최대 " + max + "건 예상, 실제 " + count + "건: " + shapes);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) CURRENT.remove();
+                else CURRENT.set(parent);
+            }
+        }
+    }
+}
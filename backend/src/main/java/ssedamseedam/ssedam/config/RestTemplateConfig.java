@@ -1,16 +1,29 @@
 package ssedamseedam.ssedam.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+
 @Configuration
 public class RestTemplateConfig {
 
+    // 빌더로 만들어야 http.client.requests 메트릭이 붙음
+    // 가상 스레드 모드에서는 JDK HttpClient 사용 (HttpURLConnection 은 내부 synchronized 로 캐리어 스레드를 붙잡음)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(new VirtualThreadTaskExecutor("ai-client-"))
+                    .build();
+            builder = builder.requestFactory(() -> new JdkClientHttpRequestFactory(client));
+        }
+        return builder.build();
     }
 }
-
-
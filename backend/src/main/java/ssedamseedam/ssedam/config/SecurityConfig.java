@@ -1,30 +1,44 @@
 package ssedamseedam.ssedam.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import ssedamseedam.ssedam.security.AccessTokenFilter;
+import ssedamseedam.ssedam.security.AccessTokens;
+import ssedamseedam.ssedam.security.RateLimitFilter;
+import ssedamseedam.ssedam.security.RateLimiter;
 
 import java.util.Arrays;
+import java.util.Set;
 
 @Configuration
 public class SecurityConfig {
 
     // 🔥 PasswordEncoder 등록 (필수)
+    // strength 를 올리면 기존 해시는 다음 로그인 때 자동 재해시 (UserService.login)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // 🔥 SecurityFilterChain 통합 버전
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           AccessTokens accessTokens,
+                                           RateLimiter rateLimiter,
+                                           @Value("${community.moderation.moderator-ids:}") Set<Long> moderatorIds) throws Exception {
 
         http
                 // CSRF 비활성화 (REST API에서는 보통 끈다)
@@ -33,14 +47,26 @@ public class SecurityConfig {
                 // CORS 허용
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
-                // 모든 요청 허용
+                // 신고 관리는 모더레이터 토큰만 (?userId= 구 방식으로는 불가), 나머지는 허용
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/community/moderation/**").hasRole("MODERATOR")
                         .anyRequest().permitAll()
                 )
+                // 토큰 없음 → 401, 권한 없음 → 403
+                .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
 
 
-                // 기본 Basic 인증 off (문제 생기면 활성)
-                .httpBasic(Customizer.withDefaults());
+                // Basic 인증/폼 로그인 off
+                // (켜 두면 Authorization 헤더만 붙어도 요청 스레드에서 bcrypt 가 돌아감)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+
+                // 세션 없이 요청마다 서명 토큰으로 사용자 확인 (DB 조회 없음)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new AccessTokenFilter(accessTokens, moderatorIds), UsernamePasswordAuthenticationFilter.class)
+
+                // AI 분석/FAQ 검색/로그인 빈도 제한 (토큰 확인 뒤라서 사용자별로 셈)
+                .addFilterAfter(new RateLimitFilter(rateLimiter), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
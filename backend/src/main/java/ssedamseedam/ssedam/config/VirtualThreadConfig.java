@@ -0,0 +1,48 @@
+package ssedamseedam.ssedam.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ssedamseedam.ssedam.datasource.ConnectionPermitDataSource;
+import ssedamseedam.ssedam.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21 필요)
+ * - Tomcat 요청 처리 / @Async / 스케줄러는 Spring Boot 가 가상 스레드로 바꿈
+ * - 추론 서버 호출 클라이언트는 RestTemplateConfig 에서 JDK HttpClient 로 바꿈
+ * - DB 연결은 Hikari 풀마다 ConnectionPermitDataSource 로 감쌈 (허가 수 = 그 풀의 maximum-pool-size)
+ *   단일 DataSource 면 여기서 "dataSource" 빈을, 복제본 라우팅이면 DataSourceConfig 가 primary/복제본 풀을 각각
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPermits(
+            @Value("${datasource.connection-permit-timeout:5s}") Duration timeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 복제본 라우팅이면 "dataSource" 는 라우팅 프록시라 여기 안 걸림
+                if ("dataSource".equals(beanName) && bean instanceof HikariDataSource pool) {
+                    return ConnectionPermitDataSource.forPool(pool, ReplicaRoutingDataSource.PRIMARY, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPermitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionPermitDataSource permits) permits.registerMetrics(registry);
+        };
+    }
+}
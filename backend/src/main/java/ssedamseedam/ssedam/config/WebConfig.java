@@ -0,0 +1,22 @@
+package ssedamseedam.ssedam.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ssedamseedam.ssedam.security.CurrentUserArgumentResolver;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // 프론트가 토큰으로 다 바뀌면 false 로 (그 전까지는 ?userId= 도 받음)
+    @Value("${auth.token.allow-legacy-user-param:true}")
+    private boolean allowLegacyUserParam;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver(allowLegacyUserParam));
+    }
+}
@@ -1,13 +1,28 @@
 package ssedamseedam.ssedam.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ssedamseedam.ssedam.domain.PostCategory;
 import ssedamseedam.ssedam.dto.*;
+import ssedamseedam.ssedam.security.CurrentUser;
 import ssedamseedam.ssedam.service.CommunityService;
+import ssedamseedam.ssedam.service.DraftAutosaver;
+import ssedamseedam.ssedam.service.PostImageStorage;
+import ssedamseedam.ssedam.service.PostLiveStream;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/community")
@@ -16,39 +31,96 @@ import java.util.List;
 public class CommunityController {
 
     private final CommunityService communityService;
+    private final PostImageStorage postImageStorage;
+    private final PostLiveStream postLiveStream;
+    private final DraftAutosaver draftAutosaver;
 
     /**
      * 게시글 목록
      * /api/community/posts?category=QUESTION&page=0&size=20
      * category 없으면 전체
+     * 비로그인(userId 없음) 응답은 짧게 캐시 가능
      */
     @GetMapping("/posts")
-    public Page<PostSummaryResponse> getPosts(
+    public ResponseEntity<Page<PostSummaryResponse>> getPosts(
             @RequestParam(required = false) PostCategory category,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) Long userId
+            @CurrentUser(required = false) Long userId
     ) {
-        return communityService.getPosts(category, page, size, userId);
+        Page<PostSummaryResponse> posts = communityService.getPosts(category, page, size, userId);
+        return ResponseEntity.ok()
+                .cacheControl(userId == null ? HttpCaching.ANONYMOUS_LIST : HttpCaching.PER_USER)
+                .body(posts);
+    }
+
+    /**
+     * 인기글
+     * /api/community/posts/trending?category=TIP&size=20
+     */
+    @GetMapping("/posts/trending")
+    public List<PostSummaryResponse> getTrendingPosts(
+            @RequestParam(required = false) PostCategory category,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId
+    ) {
+        return communityService.getTrendingPosts(category, size, userId);
+    }
+
+    /**
+     * 게시글 검색 (제목 + 본문, 관련도순)
+     * /api/community/posts/search?q=페트병&category=TIP&size=20
+     */
+    @GetMapping("/posts/search")
+    public List<PostSummaryResponse> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) PostCategory category,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId
+    ) {
+        return communityService.searchPosts(q, category, size, userId);
     }
 
     @DeleteMapping("/posts/{postId}")
     public void deletePost(
             @PathVariable Long postId,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         communityService.deletePost(postId, userId);
     }
 
     /**
-     * 게시글 상세
+     * 게시글 상세 (ETag/Last-Modified 일치 시 304)
      */
     @GetMapping("/posts/{postId}")
-    public PostDetailResponse getPost(
+    public ResponseEntity<PostDetailResponse> getPost(
             @PathVariable Long postId,
-            @RequestParam Long userId   // TODO: 인증으로 대체
+            @CurrentUser Long userId,
+            WebRequest request
     ) {
-        return communityService.getPostDetail(postId, userId);
+        PostDetailResponse post = communityService.getPostDetail(postId, userId);
+        // liked/mine 이 사용자별이라 userId 도 버전에 포함
+        String etag = HttpCaching.etag("post", post.getId(), post.getUpdatedAt(),
+                post.getLikeCount(), post.getCommentCount(), userId);
+        if (request.checkNotModified(etag, HttpCaching.epochMillis(post.getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.PER_USER)
+                .body(post);
+    }
+
+    /**
+     * 게시글 상세 실시간 스트림 (SSE)
+     * - event: comment → CommentRow, like → {postId, likeCount}
+     * - 연결이 끊기면 EventSource 가 자동 재접속, 그 사이 변경은 상세/댓글 API 로 다시 맞춤
+     */
+    @GetMapping(value = "/posts/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPost(@PathVariable Long postId,
+                                 @CurrentUser(required = false) Long userId,
+                                 HttpServletRequest request) {
+        String clientKey = (userId != null) ? "u" + userId : "ip" + request.getRemoteAddr();
+        return postLiveStream.subscribe(postId, clientKey);
     }
 
     /**
@@ -57,7 +129,7 @@ public class CommunityController {
     @PostMapping("/posts")
     public Long createPost(
             @RequestBody PostCreateRequest request,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         return communityService.createPost(request, userId);
     }
@@ -69,28 +141,84 @@ public class CommunityController {
     public void updatePost(
             @PathVariable Long postId,
             @RequestBody PostUpdateRequest request,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         communityService.updatePost(postId, request, userId);
     }
 
+    /**
+     * 임시저장 글 자동 저장 (202 Accepted)
+     * - 연달아 호출해도 글마다 일정 간격에 한 번만 실제로 저장 (publish 값은 무시)
+     */
+    @PutMapping("/posts/{postId}/autosave")
+    public ResponseEntity<Void> autosaveDraft(
+            @PathVariable Long postId,
+            @RequestBody PostUpdateRequest request,
+            @CurrentUser Long userId
+    ) {
+        draftAutosaver.submit(postId, request, userId);
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * 게시글 좋아요
      */
     @PostMapping("/posts/{postId}/like")
     public void likePost(
             @PathVariable Long postId,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         communityService.likePost(postId, userId);
     }
 
+    /**
+     * 게시글 좋아요 취소
+     */
+    @DeleteMapping("/posts/{postId}/like")
+    public void unlikePost(
+            @PathVariable Long postId,
+            @CurrentUser Long userId
+    ) {
+        communityService.unlikePost(postId, userId);
+    }
+
     /**
      * 댓글 목록
      */
     @GetMapping("/posts/{postId}/comments")
-    public List<CommentResponse> getComments(@PathVariable Long postId) {
-        return communityService.getComments(postId);
+    public List<CommentResponse> getComments(
+            @PathVariable Long postId,
+            @CurrentUser(required = false) Long userId
+    ) {
+        return communityService.getComments(postId, userId);
+    }
+
+    /**
+     * 댓글 페이지 (부모 댓글 커서 페이지 + 대댓글 미리보기)
+     * /api/community/posts/{postId}/comments/paged?cursor=...&size=20
+     */
+    @GetMapping("/posts/{postId}/comments/paged")
+    public CommentPageResponse getCommentPage(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId
+    ) {
+        return communityService.getCommentPage(postId, cursor, size, userId);
+    }
+
+    /**
+     * 대댓글 더보기
+     * /api/community/comments/{commentId}/replies?cursor=...&size=20
+     */
+    @GetMapping("/comments/{commentId}/replies")
+    public CommentPageResponse getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser(required = false) Long userId
+    ) {
+        return communityService.getReplies(commentId, cursor, size, userId);
     }
 
     /**
@@ -100,7 +228,7 @@ public class CommunityController {
     public Long createComment(
             @PathVariable Long postId,
             @RequestBody CommentCreateRequest request,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         return communityService.createComment(postId, request, userId);
     }
@@ -111,11 +239,69 @@ public class CommunityController {
     @PostMapping("/comments/{commentId}/like")
     public void likeComment(
             @PathVariable Long commentId,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         communityService.likeComment(commentId, userId);
     }
 
+    /**
+     * 댓글 좋아요 취소
+     */
+    @DeleteMapping("/comments/{commentId}/like")
+    public void unlikeComment(
+            @PathVariable Long commentId,
+            @CurrentUser Long userId
+    ) {
+        communityService.unlikeComment(commentId, userId);
+    }
+
+    /**
+     * 신고 관리 대기열 (신고 수 많은 순)
+     * - ROLE_MODERATOR 토큰 필요 (SecurityConfig)
+     * /api/community/moderation/reports?page=0&size=20
+     */
+    @GetMapping("/moderation/reports")
+    public Page<ModerationItemResponse> getModerationQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return communityService.getModerationQueue(page, size);
+    }
+
+    /**
+     * 게시글 이미지 업로드 (반환된 url 을 imageUrls 에 넣어서 글 작성/수정)
+     * - 로그인 필요
+     */
+    @PostMapping("/images")
+    public PostImageUploadResponse uploadImage(@RequestPart("image") MultipartFile image,
+                                               @CurrentUser Long userId) {
+        return postImageStorage.store(image);
+    }
+
+    /**
+     * 게시글 이미지 서빙
+     * /api/community/images/{orig|thumb|medium}/{hash}.{ext}
+     * - 내용 해시 URL 이라 1년 immutable 캐시 (렌디션 생성 전 원본 대체 응답만 짧게)
+     * - Range 요청은 Resource 반환 시 Spring 이 ResourceRegion 으로 처리 (206 Partial Content)
+     */
+    @GetMapping("/images/{variant}/{filename:.+}")
+    public ResponseEntity<Resource> getImage(
+            @PathVariable String variant,
+            @PathVariable String filename
+    ) {
+        return PostImageStorage.Variant.from(variant)
+                .flatMap(v -> postImageStorage.locate(v, filename))
+                .map(found -> ResponseEntity.ok()
+                        .cacheControl(found.fallback()
+                                ? CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic()
+                                : CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                        .eTag((found.fallback() ? "orig" : variant) + "-" + found.path().getFileName())
+                        .contentType(MediaTypeFactory.getMediaType(found.path().getFileName().toString())
+                                .orElse(MediaType.APPLICATION_OCTET_STREAM))
+                        .body((Resource) new FileSystemResource(found.path())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * 게시글 신고
      */
@@ -123,7 +309,7 @@ public class CommunityController {
     public void reportPost(
             @PathVariable Long postId,
             @RequestBody PostReportRequest request,
-            @RequestParam Long userId
+            @CurrentUser Long userId
     ) {
         communityService.reportPost(postId, request, userId);
     }
@@ -3,9 +3,11 @@ package ssedamseedam.ssedam.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ssedamseedam.ssedam.dto.*;
 import ssedamseedam.ssedam.service.FaqService;
 
@@ -13,6 +15,7 @@ import java.net.URI;
 import java.util.Map;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/faqs")
 @RequiredArgsConstructor
@@ -20,10 +23,16 @@ public class FaqController {
 
     private final FaqService faqService;
 
-    /** 상세 조회 */
+    /** 상세 조회 (ETag/Last-Modified 일치 시 304) */
     @GetMapping("/{id}")
-    public ResponseEntity<FaqResponse> get(@PathVariable Long id) {
-        return ResponseEntity.ok(faqService.get(id));
+    public ResponseEntity<FaqResponse> get(@PathVariable Long id, WebRequest request) {
+        FaqResponse faq = faqService.get(id);
+        String etag = HttpCaching.etag("faq", faq.getId(), faq.getUpdatedAt(),
+                faq.getLikeCount(), faq.getDislikeCount());
+        if (request.checkNotModified(etag, HttpCaching.epochMillis(faq.getUpdatedAt()))) {
+            return null; // 304 Not Modified (헤더는 checkNotModified 가 채워줌)
+        }
+        return ResponseEntity.ok(faq);
     }
 
     /** 검색/목록 (q, category, wasteType, excludeWasteTypes, page, size) */
@@ -34,7 +43,8 @@ public class FaqController {
             @RequestParam(required = false) String wasteType,
             @RequestParam(required = false) List<String> excludeWasteTypes,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request
     ) {
         FaqSearchCondition cond = new FaqSearchCondition();
         cond.setQ(q);
@@ -45,7 +55,23 @@ public class FaqController {
         cond.setSize(size);
 
         Page<FaqSummaryResponse> result = faqService.search(cond);
-        return ResponseEntity.ok(result);
+
+        // 목록 ETag: 페이지 메타 + 항목별 (id, 추천/비추천 수, 마지막 변경 시각)
+        // - 질문/카테고리만 고쳐도 updatedAt 이 바뀌므로 수정이 304 에 묻히지 않음
+        HttpCaching.Digest digest = new HttpCaching.Digest()
+                .add(result.getTotalElements())
+                .add(result.getNumber())
+                .add(result.getSize());
+        for (FaqSummaryResponse f : result.getContent()) {
+            digest.add(f.getId()).add(f.getLikeCount()).add(f.getDislikeCount())
+                    .add(HttpCaching.epochMillis(f.getUpdatedAt()));
+        }
+        if (request.checkNotModified(digest.toEtag("faqs"))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.ANONYMOUS_LIST)
+                .body(result);
     }
 
     /** 추천/비추천 */
@@ -55,13 +81,14 @@ public class FaqController {
             @Valid @RequestBody FaqVoteRequest req
     ) {
         try {
-            System.out.println("투표 요청 받음: FAQ ID=" + id + ", 사용자 ID=" + req.getUserId() + ", 투표=" + req.getVote());
             faqService.vote(id, req.getUserId(), req.getVote());
-            System.out.println("투표 처리 완료: FAQ ID=" + id);
             return ResponseEntity.ok(Map.of("message", "반영 완료"));
         } catch (Exception e) {
-            System.err.println("투표 컨트롤러 에러: " + e.getMessage());
-            e.printStackTrace();
+            log.atError().setMessage("FAQ 투표 실패").setCause(e)
+                    .addKeyValue("faqId", id)
+                    .addKeyValue("userId", req.getUserId())
+                    .addKeyValue("vote", req.getVote())
+                    .log();
             return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
         }
     }
@@ -69,7 +96,7 @@ public class FaqController {
     /** 피드백 제출 */
     @PostMapping("/feedback")
     public ResponseEntity<?> feedback(@RequestBody Map<String, Object> req) {
-        System.out.println("피드백 요청 받음: " + req);
+        log.debug("FAQ 피드백 요청: {}", req);
         // 일단 성공 응답만 반환
         return ResponseEntity.ok(Map.of("message", "피드백 감사해요!", "id", 1));
     }
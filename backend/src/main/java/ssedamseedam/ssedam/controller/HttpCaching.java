@@ -0,0 +1,64 @@
+package ssedamseedam.ssedam.controller;
+
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 보조 유틸
+ * - 응답 본문을 직렬화하지 않고, 엔티티의 버전 정보(id, 수정시각, 카운트)만으로 강한 ETag 생성
+ * - 값이 같으면 WebRequest.checkNotModified() 가 304 를 돌려준다
+ */
+final class HttpCaching {
+
+    /** 비로그인 목록 응답의 짧은 캐시 수명 */
+    static final CacheControl ANONYMOUS_LIST = CacheControl.maxAge(30, TimeUnit.SECONDS).cachePublic();
+
+    /** 사용자별 필드가 섞인 응답: 저장은 허용하되 매번 재검증 */
+    static final CacheControl PER_USER = CacheControl.noCache().cachePrivate();
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private HttpCaching() {
+    }
+
+    /** LocalDateTime → epoch millis (없으면 -1, checkNotModified 에서 무시됨) */
+    static long epochMillis(LocalDateTime t) {
+        return t == null ? -1L : t.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /** 버전 구성 요소들을 이어 붙여 ETag 값 생성 (따옴표는 Spring 이 붙여준다) */
+    static String etag(String prefix, Object... parts) {
+        StringBuilder sb = new StringBuilder(prefix);
+        for (Object part : parts) {
+            sb.append('-').append(part instanceof LocalDateTime t ? epochMillis(t) : part);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 목록용 ETag 누산기
+     * - 페이지 내 항목들의 (id, 카운트 등) 을 64비트 해시로 접어서 짧은 문자열로 만든다
+     */
+    static final class Digest {
+        private long h = 0xcbf29ce484222325L;   // FNV-1a offset basis
+
+        Digest add(long v) {
+            for (int i = 0; i < 8; i++) {
+                h ^= (v >>> (i * 8)) & 0xff;
+                h *= 0x100000001b3L;
+            }
+            return this;
+        }
+
+        Digest add(Object o) {
+            return add(o == null ? 0L : o.hashCode());
+        }
+
+        String toEtag(String prefix) {
+            return prefix + "-" + Long.toHexString(h);
+        }
+    }
+}
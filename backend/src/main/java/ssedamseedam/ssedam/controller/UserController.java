@@ -2,15 +2,19 @@ package ssedamseedam.ssedam.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import ssedamseedam.ssedam.domain.User;
 import ssedamseedam.ssedam.dto.UserLoginRequest;
 import ssedamseedam.ssedam.dto.UserLoginResponse;
 import ssedamseedam.ssedam.dto.UserSignupRequest;
+import ssedamseedam.ssedam.security.AccessTokens;
+import ssedamseedam.ssedam.service.PasswordHashingBusyException;
 import ssedamseedam.ssedam.service.UserService;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @CrossOrigin(origins = "http://localhost:8081")
 @RestController
@@ -19,6 +23,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final AccessTokens accessTokens;
 
     // 아이디 중복 확인
     @GetMapping("/check-username")
@@ -34,29 +39,37 @@ public class UserController {
         return ResponseEntity.ok(Map.of("available", ok));
     }
 
-    // 회원가입
+    // 회원가입 (해시 계산 동안 요청 스레드는 반환)
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@Valid @RequestBody UserSignupRequest dto) {
-        userService.register(dto);
-        return ResponseEntity.ok(Map.of("message", "회원가입 성공"));
+    public CompletableFuture<ResponseEntity<?>> signup(@Valid @RequestBody UserSignupRequest dto) {
+        return userService.register(dto)
+                .<ResponseEntity<?>>thenApply(v -> ResponseEntity.ok(Map.of("message", "회원가입 성공")));
     }
 
     // 로그인 (아이디 + 비밀번호)
     @PostMapping("/login")
-    public ResponseEntity<UserLoginResponse> login(
+    public CompletableFuture<ResponseEntity<UserLoginResponse>> login(
             @Valid @RequestBody UserLoginRequest dto
     ) {
-        // 서비스에서 User 도메인을 받아옴
-        User user = userService.login(dto);
-
-        // 프론트가 필요로 하는 정보만 담은 DTO 생성
-        UserLoginResponse res = new UserLoginResponse(
-                user.getId(),          // userId
-                user.getUsername(),    // username (로그인 아이디)
-                user.getNickname(),    // nickname (커뮤니티 등에서 쓸 닉네임)
-                "로그인 성공"           // message
-        );
-
-        return ResponseEntity.ok(res);
+        // 서비스에서 User 도메인을 받아옴 (비밀번호 확인은 해시 스레드에서)
+        return userService.login(dto).thenApply(user -> {
+            // 프론트가 필요로 하는 정보만 담은 DTO 생성
+            UserLoginResponse res = new UserLoginResponse(
+                    user.getId(),          // userId
+                    user.getUsername(),    // username (로그인 아이디)
+                    user.getNickname(),    // nickname (커뮤니티 등에서 쓸 닉네임)
+                    "로그인 성공",          // message
+                    accessTokens.issue(user.getId(), user.getNickname())   // 이후 요청은 userId 대신 이 토큰
+            );
+            return ResponseEntity.ok(res);
+        });
+    }
+
+    // 해시 대기열 초과 → 503, 1초 후 재시도
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handleBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", e.getMessage()));
     }
 }
@@ -0,0 +1,132 @@
+package ssedamseedam.ssedam.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 연결을 잡을 수 있는 수 제한 (가상 스레드 모드용)
+ * - 가상 스레드는 수천 개라 전부 풀에 몰리면 Hikari 대기열에서 타임아웃이 한꺼번에 터짐
+ * - 풀 크기만큼의 공정 세마포어로 앞에서 줄 세움: 연결을 받은 뒤 close 하면 반납
+ * - 풀마다 하나씩 (primary, replica-N): 라우팅된 DataSource 전체 앞에 두면 복제본 읽기와 primary 쓰기가
+ *   한 한도를 나눠 쓰게 되어, 한쪽이 몰리면 다른 풀이 비어 있어도 기다림
+ * - timeout 안에 못 받으면 SQLTransientConnectionException (Hikari 타임아웃과 같은 종류)
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final String name;
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    public ConnectionPermitDataSource(DataSource target, String name, int permits, Duration timeout) {
+        super(target);
+        this.name = name;
+        this.permits = new Semaphore(permits, true);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /** Hikari 풀 하나를 그 풀의 maximum-pool-size 만큼의 허가로 감쌈 (이름이 없으면 defaultName) */
+    public static ConnectionPermitDataSource forPool(HikariDataSource pool, String defaultName, Duration timeout) {
+        String name = (pool.getPoolName() != null) ? pool.getPoolName() : defaultName;
+        return new ConnectionPermitDataSource(pool, name, pool.getMaximumPoolSize(), timeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return withPermit(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return withPermit(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("DB 연결 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 연결 대기 중 인터럽트", e);
+        }
+    }
+
+    /** close 를 처음 부를 때 한 번만 반납하는 연결 프록시 */
+    private Connection withPermit(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(target, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) permits.release();
+                        }
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    /** 풀 이름(target 태그)별 허가 지표 등록 */
+    public void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("datasource.connection.permits.available", this, ConnectionPermitDataSource::availablePermits)
+                .tag("target", name)
+                .register(registry);
+        Gauge.builder("datasource.connection.permits.waiting", this, ConnectionPermitDataSource::waiting)
+                .description("DB 연결 허가를 기다리는 스레드 수")
+                .tag("target", name)
+                .register(registry);
+    }
+
+    /** 감싼 풀 닫기 (빈 종료 시, Hikari 등) */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) closeable.close();
+    }
+}
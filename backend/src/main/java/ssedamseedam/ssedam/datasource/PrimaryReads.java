@@ -0,0 +1,40 @@
+package ssedamseedam.ssedam.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연을 허용할 수 없는 읽기를 primary 로 고정 (ReplicaRoutingDataSource 가 확인)
+ * - 오래 들고 있는 인메모리 캐시/색인 적재: 뒤처진 복제본을 읽으면 다음 무효화까지 틀린 값이 남음
+ * - 유저 식별 없이 쓴 직후의 읽기 (가입 직후 로그인: read-your-writes 로 표시되지 않음)
+ * - 커밋 후 이벤트 리스너의 읽기는 원래 쓰기 트랜잭션에 참여하므로 이미 primary (감쌀 필요 없음)
+ * - 연결은 첫 SQL 때 고르므로 이미 복제본 연결을 잡은 트랜잭션 안에서 감싸면 소용 없음
+ * - 복제본 라우팅이 꺼져 있으면 아무 영향 없음
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        if (isPinned()) return read.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    public static void run(Runnable read) {
+        call(() -> {
+            read.run();
+            return null;
+        });
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
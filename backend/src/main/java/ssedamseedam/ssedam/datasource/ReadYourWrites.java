@@ -0,0 +1,59 @@
+package ssedamseedam.ssedam.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import ssedamseedam.ssedam.security.AuthUser;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 커밋한 유저 기록 → window 동안 그 유저의 읽기는 primary 로
+ * - 복제 지연 때문에 방금 쓴 글/댓글이 안 보이는 일을 막음
+ * - 유저는 토큰 principal, 없으면 ?userId= (구 프론트) 로 식별. 둘 다 없으면 기록/확인 안 함
+ */
+public class ReadYourWrites {
+
+    private static final String LEGACY_PARAM = "userId";
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    public void markWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean recentlyWrote(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    /** 현재 스레드의 요청 유저 (요청 밖이거나 비로그인이면 null) */
+    static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof AuthUser user) {
+            return user.id();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs) {
+            HttpServletRequest request = attrs.getRequest();
+            String raw = request.getParameter(LEGACY_PARAM);
+            if (raw != null && !raw.isBlank()) {
+                try {
+                    return Long.valueOf(raw.trim());
+                } catch (NumberFormatException ignored) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
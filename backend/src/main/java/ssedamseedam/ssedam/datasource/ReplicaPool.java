@@ -0,0 +1,118 @@
+package ssedamseedam.ssedam.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 복제본 목록 + 복제 지연 감시
+ * - lag-check 주기마다 SHOW REPLICA STATUS 의 Seconds_Behind_Source 확인 (MySQL 8.0.22+, REPLICATION CLIENT 권한)
+ * - 상태 행이 없으면(복제 설정 없는 독립 인스턴스 / 로컬 대역) 지연 0 으로 취급
+ * - 연결 실패, 복제 중단(값 NULL), maxLag 초과면 그 복제본은 빼고 고름 → 전부 빠지면 primary
+ * - 첫 확인 전에는 모든 복제본을 사용 불가로 둠
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final String STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    /** 라우팅 키(replica-0, replica-1 ...) 와 현재 지연(초, 사용 불가면 -1) */
+    public static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile long lagSeconds = -1;
+
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public long lagSeconds() {
+            return lagSeconds;
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<DataSource> dataSources, Duration maxLag) {
+        this.replicas = IntStream.range(0, dataSources.size())
+                .mapToObj(i -> new Replica("replica-" + i, dataSources.get(i)))
+                .toList();
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /** 쓸 수 있는 복제본 하나 (라운드 로빈, 없으면 empty) */
+    public Optional<String> pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica r = replicas.get((start + i) % size);
+            long lag = r.lagSeconds;
+            if (lag >= 0 && lag <= maxLagSeconds) return Optional.of(r.key);
+        }
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-ms:1000}")
+    public void checkLag() {
+        for (Replica r : replicas) {
+            long lag = probe(r);
+            boolean wasUsable = r.lagSeconds >= 0 && r.lagSeconds <= maxLagSeconds;
+            boolean usable = lag >= 0 && lag <= maxLagSeconds;
+            r.lagSeconds = lag;
+            if (wasUsable != usable) {
+                log.atWarn()
+                        .setMessage(usable ? "복제본 사용 재개" : "복제본 제외")
+                        .addKeyValue("replica", r.key)
+                        .addKeyValue("lagSeconds", lag)
+                        .log();
+            }
+        }
+    }
+
+    private long probe(Replica r) {
+        try (Connection con = r.dataSource.getConnection();
+             Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery(STATUS_SQL)) {
+            if (!rs.next()) return 0;
+            long lag = rs.getLong(LAG_COLUMN);
+            return rs.wasNull() ? -1 : lag;
+        } catch (SQLException e) {
+            log.debug("복제본 상태 확인 실패: {}", r.key, e);
+            return -1;
+        }
+    }
+
+    /** 복제본 풀 닫기 (빈 종료 시) */
+    @Override
+    public void close() throws Exception {
+        for (Replica r : replicas) {
+            if (r.dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
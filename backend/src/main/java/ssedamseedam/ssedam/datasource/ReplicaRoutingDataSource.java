@@ -0,0 +1,100 @@
+package ssedamseedam.ssedam.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 트랜잭션 종류로 primary / 복제본 고르기
+ * - readOnly 트랜잭션 → 지연이 작은 복제본 (없으면 primary)
+ * - 그 외(쓰기, 트랜잭션 밖) → primary
+ * - 쓰기 트랜잭션이 커밋되면 그 유저는 read-your-writes 기간 동안 읽기도 primary
+ * - PrimaryReads 로 감싼 읽기(캐시/색인 적재, 로그인 조회) → primary
+ * - LazyConnectionDataSourceProxy 뒤에 둬야 함: 연결을 첫 SQL 시점에 얻어야 readOnly 표시가 보임
+ * - 지표: datasource.routing (target, reason 별 횟수)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    enum Reason {
+        WRITE, READ, READ_YOUR_WRITES, PINNED, NO_REPLICA;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWrites readYourWrites;
+    private final Map<String, Map<Reason, Counter>> counters = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    ReplicaPool replicaPool,
+                                    ReadYourWrites readYourWrites,
+                                    MeterRegistry meterRegistry) {
+        this.replicaPool = replicaPool;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        registerCounters(PRIMARY, meterRegistry);
+        for (ReplicaPool.Replica r : replicaPool.replicas()) {
+            targets.put(r.key(), r.dataSource());
+            registerCounters(r.key(), meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    private void registerCounters(String target, MeterRegistry meterRegistry) {
+        Map<Reason, Counter> byReason = new EnumMap<>(Reason.class);
+        for (Reason reason : Reason.values()) {
+            byReason.put(reason, Counter.builder("datasource.routing")
+                    .tag("target", target)
+                    .tag("reason", reason.tag())
+                    .register(meterRegistry));
+        }
+        counters.put(target, byReason);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = ReadYourWrites.currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.markWrite(userId);
+                    }
+                });
+            }
+            return route(PRIMARY, Reason.WRITE);
+        }
+        if (PrimaryReads.isPinned()) {
+            return route(PRIMARY, Reason.PINNED);
+        }
+        if (userId != null && readYourWrites.recentlyWrote(userId)) {
+            return route(PRIMARY, Reason.READ_YOUR_WRITES);
+        }
+        return replicaPool.pick()
+                .map(key -> route(key, Reason.READ))
+                .orElseGet(() -> route(PRIMARY, Reason.NO_REPLICA));
+    }
+
+    private String route(String target, Reason reason) {
+        counters.get(target).get(reason).increment();
+        return target;
+    }
+}
@@ -2,6 +2,8 @@ package ssedamseedam.ssedam.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
@@ -11,8 +13,11 @@ import java.time.LocalDateTime;
         @Index(name="idx_faq_wasteType", columnList = "wasteType"),
         @Index(name="idx_faq_createdAt", columnList = "createdAt")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faq")
 public class Faq {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "faqs_seq")
+    @SequenceGenerator(name = "faqs_seq", sequenceName = "faqs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable=false, length=120)
@@ -36,10 +41,23 @@ public class Faq {
     @Column(nullable=false)
     private LocalDateTime createdAt;
 
+    private LocalDateTime updatedAt;    // 마지막 변경(투표 포함) 시각 → Last-Modified
+
     @PrePersist
     void prePersist() {
         if (createdAt == null) createdAt = LocalDateTime.now();
+        if (updatedAt == null) updatedAt = createdAt;
         if (likeCount == null) likeCount = 0L;
         if (dislikeCount == null) dislikeCount = 0L;
     }
+
+    @PreUpdate
+    void preUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 기존 행은 updatedAt 이 비어 있을 수 있으므로 createdAt 으로 대체 */
+    public LocalDateTime getLastModifiedAt() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
 }
\ No newline at end of file
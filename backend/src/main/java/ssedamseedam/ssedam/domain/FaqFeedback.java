@@ -10,7 +10,9 @@ import java.util.Locale;
 @Table(name = "faq_feedback")
 public class FaqFeedback {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "faq_feedback_seq")
+    @SequenceGenerator(name = "faq_feedback_seq", sequenceName = "faq_feedback_seq", allocationSize = 50)
     private Long id;
 
     /** 어떤 FAQ에 대한 피드백인지 (필수) */
@@ -15,7 +15,8 @@ import lombok.*;
 public class FaqVote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "faq_vote_seq")
+    @SequenceGenerator(name = "faq_vote_seq", sequenceName = "faq_vote_seq", allocationSize = 50)
     private Long id;
 
     /** 어떤 FAQ에 대한 투표인지 (필수) */
@@ -2,9 +2,16 @@ package ssedamseedam.ssedam.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Getter
@@ -12,9 +19,18 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_post_status_createdAt", columnList = "status, createdAt"),
+        @Index(name = "idx_post_reportCount", columnList = "reportCount, id")
+})
 public class Post {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /** excerpt 컬럼 최대 길이 (미리보기 길이 설정은 이 값을 넘을 수 없음) */
+    public static final int EXCERPT_MAX_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,16 +45,24 @@ public class Post {
     @Lob
     private String content;
 
+    // 목록 미리보기용 앞부분 (목록 조회는 LOB 대신 이 컬럼만 읽음)
+    @Column(length = EXCERPT_MAX_LENGTH)
+    private String excerpt;
+
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)   // MySQL ENUM 컬럼이면 상태 추가 때마다 ALTER 필요 → VARCHAR
+    @Column(length = 20)
     private PostStatus status;
 
     private int likeCount;
     private int commentCount;
+    private int reportCount;   // 신고 수 (신고 시 원자적 +1, 관리 대기열 정렬 기준)
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<PostImage> images = new ArrayList<>();
 
     @PrePersist
@@ -53,11 +77,80 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 본문 변경 + excerpt 동기화
+     * - 공백은 하나로 접고, 서로게이트 쌍(이모지)이 잘리지 않게 코드포인트 기준으로 자름
+     */
+    public void changeContent(String content, int excerptLength) {
+        this.content = content;
+        this.excerpt = excerptOf(content, excerptLength);
+    }
+
+    public static String excerptOf(String content, int length) {
+        if (content == null) return null;
+        String flat = content.strip().replaceAll("\\s+", " ");
+        int max = Math.min(Math.max(length, 0), EXCERPT_MAX_LENGTH);
+        if (flat.codePointCount(0, flat.length()) <= max) return flat;
+        return flat.substring(0, flat.offsetByCodePoints(0, max));
+    }
+
     public void addImage(PostImage image) {
         if (this.images == null) {
             this.images = new ArrayList<>();
         }
+        image.setSortOrder(this.images.size());
         this.images.add(image);
         image.setPost(this);
     }
+
+    /**
+     * 이미지 목록을 urls 로 맞춤 (차이만 반영)
+     * - 그대로인 이미지는 행 유지, 순서가 바뀐 것만 sortOrder UPDATE
+     * - 빠진 이미지만 DELETE(orphanRemoval), 새 이미지만 INSERT
+     * → 내용이 같으면 post_image 쿼리 0건
+     * - 이미지는 연관관계 반대편이라 바뀌어도 @PreUpdate 가 안 불림 → 바뀌었으면 updatedAt 을 직접 올림
+     *   (상세 ETag/Last-Modified 가 updatedAt 기준)
+     *
+     * @return 이미지 목록이 바뀌었는지
+     */
+    public boolean replaceImages(List<String> urls) {
+        if (this.images == null) {
+            this.images = new ArrayList<>();
+        }
+        List<String> target = (urls == null) ? List.of() : urls;
+
+        Map<String, Deque<PostImage>> existing = new HashMap<>();
+        for (PostImage image : this.images) {
+            existing.computeIfAbsent(image.getImageUrl(), u -> new ArrayDeque<>()).add(image);
+        }
+
+        boolean changed = false;
+        List<PostImage> next = new ArrayList<>(target.size());
+        for (int i = 0; i < target.size(); i++) {
+            String url = target.get(i);
+            Deque<PostImage> same = existing.get(url);
+            PostImage image = (same != null) ? same.poll() : null;
+            if (image == null) {
+                image = PostImage.builder().imageUrl(url).post(this).build();
+                changed = true;
+            }
+            if (image.getSortOrder() != i) {
+                image.setSortOrder(i);   // 값이 같으면 dirty 아님
+                changed = true;
+            }
+            next.add(image);
+        }
+
+        // 같은 컬렉션 인스턴스를 유지해야 orphanRemoval 이 빠진 것만 지움
+        changed |= this.images.retainAll(next);
+        for (PostImage image : next) {
+            if (image.getId() == null) this.images.add(image);
+        }
+        this.images.sort(Comparator.comparingInt(PostImage::getSortOrder));
+
+        if (changed) {
+            this.updatedAt = LocalDateTime.now();
+        }
+        return changed;
+    }
 }
\ No newline at end of file
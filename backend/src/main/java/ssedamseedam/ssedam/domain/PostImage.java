@@ -11,11 +11,15 @@ import lombok.*;
 @Builder
 public class PostImage {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_image_seq")
+    @SequenceGenerator(name = "post_image_seq", sequenceName = "post_image_seq", allocationSize = 50)
     private Long id;
 
     private String imageUrl;     // S3나 서버 경로
 
+    private int sortOrder;       // 글 안에서의 순서 (0부터)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
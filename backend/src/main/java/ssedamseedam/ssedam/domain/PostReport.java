@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 })
 public class PostReport {
 
+    // INSERT IGNORE 네이티브 쿼리(insertIgnore)가 id 를 빼고 넣으므로 AUTO_INCREMENT 유지
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -2,5 +2,7 @@ package ssedamseedam.ssedam.domain;
 
 public enum PostStatus {
     DRAFT,      // 임시저장
-    PUBLISHED   // 등록
+    PUBLISHED,  // 등록
+    HIDDEN,     // 신고 누적으로 자동 숨김 (목록/검색 제외)
+    DELETED     // 작성자가 삭제 (소프트 삭제, 수정/자동 저장 불가)
 }
\ No newline at end of file
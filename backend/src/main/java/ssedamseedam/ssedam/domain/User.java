@@ -2,6 +2,10 @@ package ssedamseedam.ssedam.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Getter @Setter
@@ -13,14 +17,19 @@ import lombok.*;
                 @Index(name = "idx_users_nickname", columnList = "nickname", unique = true)
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 public class User {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
     private String name;                // 이름
 
+    @NaturalId
     @Column(nullable = false, length = 50, unique = true)
     private String username;            // 아이디 (로그인용, 중복 불가)
 
@@ -0,0 +1,17 @@
+package ssedamseedam.ssedam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 페이지
+ * - nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 됨 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPageResponse {
+    private List<CommentResponse> items;
+    private String nextCursor;
+}
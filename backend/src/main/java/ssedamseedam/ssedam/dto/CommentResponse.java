@@ -14,5 +14,7 @@ public class CommentResponse {
     private String content;
     private int likeCount;
     private LocalDateTime createdAt;
-    private List<CommentResponse> replies;
+    private boolean liked;   // 현재 유저가 좋아요 눌렀는지
+    private long replyCount;                 // 직계 대댓글 전체 수
+    private List<CommentResponse> replies;   // 전체 트리 조회: 모든 대댓글 / 페이지 조회: 앞쪽 일부만
 }
\ No newline at end of file
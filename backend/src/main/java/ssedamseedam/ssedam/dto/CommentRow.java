@@ -0,0 +1,21 @@
+package ssedamseedam.ssedam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리 조립용 프로젝션 (CommentRepository.findRowsByPostId)
+ * - 게시글의 모든 댓글을 parent_id 와 함께 평평하게 가져온 한 행
+ */
+@Getter
+@AllArgsConstructor
+public class CommentRow {
+    private Long id;
+    private Long parentId;
+    private String authorNickname;
+    private String content;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+}
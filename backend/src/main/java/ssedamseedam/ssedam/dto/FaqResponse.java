@@ -13,4 +13,5 @@ public class FaqResponse {
     private Long likeCount;
     private Long dislikeCount;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
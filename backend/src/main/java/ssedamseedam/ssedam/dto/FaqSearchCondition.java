@@ -2,6 +2,7 @@
 package ssedamseedam.ssedam.dto;
 import lombok.*;
 import java.util.List;
+import java.util.Locale;
 
 @Getter @Setter @NoArgsConstructor
 public class FaqSearchCondition {
@@ -11,4 +12,42 @@ public class FaqSearchCondition {
     private List<String> excludeWasteTypes;
     private Integer page;
     private Integer size;
+
+    /** 정규화된 검색 조건 (blank → null, 페이지 크기 가드 적용) */
+    public record Normalized(String q,
+                             String category,
+                             String wasteType,
+                             List<String> excludeWasteTypes,
+                             int page,
+                             int size) {
+    }
+
+    /**
+     * - 키워드: null/blank → null, 나머지는 trim + Locale.ROOT 소문자
+     * - 카테고리/wasteType: null/blank → null, 나머지는 trim
+     * - excludeWasteTypes: blank 항목 제거, 비면 null
+     * - page < 0 → 0, size 는 1~200 (기본 10)
+     */
+    public Normalized normalize() {
+        int p = (page == null || page < 0) ? 0 : page;
+        int s = (size == null || size <= 0) ? 10 : Math.min(size, 200);
+
+        String qLower = (q == null || q.isBlank()) ? null : q.trim().toLowerCase(Locale.ROOT);
+
+        List<String> excludes = null;
+        if (excludeWasteTypes != null) {
+            excludes = excludeWasteTypes.stream()
+                    .filter(type -> type != null && !type.isBlank())
+                    .map(String::trim)
+                    .toList();
+            if (excludes.isEmpty()) {
+                excludes = null;
+            }
+        }
+        return new Normalized(qLower, trimToNull(category), trimToNull(wasteType), excludes, p, s);
+    }
+
+    private static String trimToNull(String s) {
+        return (s == null || s.isBlank()) ? null : s.trim();
+    }
 }
\ No newline at end of file
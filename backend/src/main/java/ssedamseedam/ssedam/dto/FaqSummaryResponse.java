@@ -2,6 +2,8 @@
 package ssedamseedam.ssedam.dto;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter @AllArgsConstructor
 public class FaqSummaryResponse {
     private Long id;
@@ -10,4 +12,5 @@ public class FaqSummaryResponse {
     private String category;
     private Long likeCount;
     private Long dislikeCount;
-}
\ No newline at end of file
+    private LocalDateTime updatedAt;
+}
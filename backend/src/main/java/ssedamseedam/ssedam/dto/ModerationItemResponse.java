@@ -0,0 +1,21 @@
+package ssedamseedam.ssedam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ssedamseedam.ssedam.domain.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 관리 대기열 항목 (PostRepository.findModerationQueue 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class ModerationItemResponse {
+    private Long postId;
+    private String title;
+    private PostStatus status;
+    private Integer reportCount;
+    private String writer;
+    private LocalDateTime createdAt;
+}
@@ -16,6 +16,7 @@ public class PostDetailResponse {
     private String content;
     private String writer;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
     private int likeCount;
     private int commentCount;
     private List<String> images;
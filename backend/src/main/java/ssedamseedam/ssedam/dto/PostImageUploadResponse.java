@@ -0,0 +1,17 @@
+package ssedamseedam.ssedam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이미지 업로드 결과
+ * - url 을 PostCreateRequest/PostUpdateRequest 의 imageUrls 에 넣으면 됨
+ * - 목록/피드에서는 thumbnailUrl, 상세 화면에서는 mediumUrl 권장
+ */
+@Getter
+@AllArgsConstructor
+public class PostImageUploadResponse {
+    private String url;
+    private String thumbnailUrl;
+    private String mediumUrl;
+}
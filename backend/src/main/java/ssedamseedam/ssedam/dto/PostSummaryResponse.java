@@ -6,7 +6,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostSummaryResponse {
 
     private Long id;
@@ -17,10 +17,26 @@ public class PostSummaryResponse {
     private int commentCount;
     private LocalDateTime createdAt;
 
-    private String content;
+    private String content;  // 목록에서는 본문 앞부분(excerpt)만
     private boolean hasPhoto;
 
     private boolean liked;   // ✅ 좋아요 여부
     private Long authorId;   // ✅ 작성자 id
     private boolean mine;    // ✅ 내 글 여부
+
+    /** 목록 프로젝션 → 응답 (liked/mine 은 요청마다 덮어씀) */
+    public static PostSummaryResponse of(PostSummaryRow r) {
+        return PostSummaryResponse.builder()
+                .id(r.getId())
+                .category(r.getCategory().name())
+                .title(r.getTitle())
+                .writer(r.getAuthorNickname() != null ? r.getAuthorNickname() : "익명")
+                .likeCount(r.getLikeCount())
+                .commentCount(r.getCommentCount())
+                .createdAt(r.getCreatedAt())
+                .content(r.getExcerpt())
+                .hasPhoto(Boolean.TRUE.equals(r.getHasPhoto()))
+                .authorId(r.getAuthorId())
+                .build();
+    }
 }
@@ -0,0 +1,27 @@
+package ssedamseedam.ssedam.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ssedamseedam.ssedam.domain.PostCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 프로젝션 (PostRepository.findSummaries)
+ * - 작성자 닉네임, 사진 유무를 한 번의 쿼리로 가져오기 위한 행 단위 DTO
+ * - JPQL constructor expression 에서 쓰므로 생성자 인자 순서/타입을 쿼리와 맞춰야 함
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryRow {
+    private Long id;
+    private PostCategory category;
+    private String title;
+    private Long authorId;
+    private String authorNickname;
+    private Integer likeCount;
+    private Integer commentCount;
+    private LocalDateTime createdAt;
+    private String excerpt;
+    private Boolean hasPhoto;
+}
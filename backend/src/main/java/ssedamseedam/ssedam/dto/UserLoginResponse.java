@@ -11,4 +11,5 @@ public class UserLoginResponse {
     private String username; // 로그인에 사용하는 아이디
     private String nickname; // 화면에 보여줄 닉네임
     private String message;  // "로그인 성공"
+    private String accessToken; // Authorization: Bearer 로 보낼 서명 토큰
 }
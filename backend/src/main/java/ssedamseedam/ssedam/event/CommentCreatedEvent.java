@@ -0,0 +1,7 @@
+package ssedamseedam.ssedam.event;
+
+/**
+ * 댓글(대댓글 포함) 작성 후 발행
+ */
+public record CommentCreatedEvent(Long postId, Long commentId, Long parentId, Long userId) {
+}
@@ -0,0 +1,7 @@
+package ssedamseedam.ssedam.event;
+
+/**
+ * 댓글 좋아요가 실제로 추가/취소됐을 때만 발행
+ */
+public record CommentLikeChangedEvent(Long commentId, Long userId, boolean liked) {
+}
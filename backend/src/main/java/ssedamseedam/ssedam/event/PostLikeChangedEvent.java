@@ -0,0 +1,7 @@
+package ssedamseedam.ssedam.event;
+
+/**
+ * 게시글 좋아요가 실제로 추가/취소됐을 때만 발행 (중복 요청은 발행 안 함)
+ */
+public record PostLikeChangedEvent(Long postId, Long userId, boolean liked) {
+}
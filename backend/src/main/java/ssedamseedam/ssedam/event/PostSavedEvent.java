@@ -0,0 +1,26 @@
+package ssedamseedam.ssedam.event;
+
+import ssedamseedam.ssedam.domain.PostCategory;
+import ssedamseedam.ssedam.domain.PostStatus;
+
+/**
+ * 게시글 작성/수정/삭제(소프트) 후 발행
+ * - previousStatus/previousCategory 는 변경 전 값 (새 글이면 null)
+ * - 커밋 이후(@TransactionalEventListener)에 캐시/인덱스 갱신용으로 사용
+ */
+public record PostSavedEvent(Long postId,
+                             PostStatus previousStatus,
+                             PostCategory previousCategory) {
+
+    public static PostSavedEvent created(Long postId) {
+        return new PostSavedEvent(postId, null, null);
+    }
+
+    public boolean isCreated() {
+        return previousStatus == null;
+    }
+
+    public boolean wasPublished() {
+        return previousStatus == PostStatus.PUBLISHED;
+    }
+}
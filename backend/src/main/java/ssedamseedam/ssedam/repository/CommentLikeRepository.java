@@ -1,11 +1,29 @@
 package ssedamseedam.ssedam.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssedamseedam.ssedam.domain.CommentLike;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
     Optional<CommentLike> findByCommentIdAndUserId(Long commentId, Long userId);
+
+    /** 유저가 좋아요 누른 댓글 id 전체 (좋아요 비트맵 로딩용) */
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId")
+    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
+
+    /** 댓글 좋아요 멱등 추가 (중복이면 0 반환) */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_like (comment_id, user_id) VALUES (:commentId, :userId)", nativeQuery = true)
+    int insertIgnore(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    /** 댓글 좋아요 취소 (없으면 0 반환) */
+    @Modifying
+    @Query(value = "DELETE FROM comment_like WHERE comment_id = :commentId AND user_id = :userId", nativeQuery = true)
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 }
\ No newline at end of file
@@ -1,13 +1,146 @@
 package ssedamseedam.ssedam.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssedamseedam.ssedam.domain.Comment;
+import ssedamseedam.ssedam.dto.CommentRow;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(Long postId);
 
     List<Comment> findByParentIdOrderByCreatedAtAsc(Long parentId);
-}
\ No newline at end of file
+
+    /** 대댓글 작성 시 부모가 같은 게시글의 댓글인지 확인 (엔티티 로딩 없이) */
+    boolean existsByIdAndPostId(Long id, Long postId);
+
+    /**
+     * 게시글의 댓글 전체(대댓글 포함)를 작성자 닉네임과 함께 한 번에 조회
+     * - 트리는 서비스에서 parentId 로 메모리 조립
+     */
+    @Query("""
+        SELECT new ssedamseedam.ssedam.dto.CommentRow(
+                c.id, c.parent.id, a.nickname, c.content, c.likeCount, c.createdAt)
+        FROM Comment c
+        LEFT JOIN c.author a
+        WHERE c.post.id = :postId
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<CommentRow> findRowsByPostId(@Param("postId") Long postId);
+
+    /** 단건 (실시간 스트림 전송용) */
+    @Query("""
+        SELECT new ssedamseedam.ssedam.dto.CommentRow(
+                c.id, c.parent.id, a.nickname, c.content, c.likeCount, c.createdAt)
+        FROM Comment c
+        LEFT JOIN c.author a
+        WHERE c.id = :commentId
+        """)
+    Optional<CommentRow> findRowById(@Param("commentId") Long commentId);
+
+    /*
+     * 댓글 페이지 (키셋: createdAt, id 오름차순)
+     * - (post_id, parent_id, createdAt) / (parent_id, createdAt) 인덱스를 타도록 첫 페이지와 이후 페이지를 분리
+     * - 다음 페이지 존재 여부 확인을 위해 호출 측에서 size + 1 로 요청
+     */
+    @Query("""
+        SELECT new ssedamseedam.ssedam.dto.CommentRow(
+                c.id, c.parent.id, a.nickname, c.content, c.likeCount, c.createdAt)
+        FROM Comment c
+        LEFT JOIN c.author a
+        WHERE c.post.id = :postId AND c.parent IS NULL
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<CommentRow> findTopLevelRows(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+        SELECT new ssedamseedam.ssedam.dto.CommentRow(
+                c.id, c.parent.id, a.nickname, c.content, c.likeCount, c.createdAt)
+        FROM Comment c
+        LEFT JOIN c.author a
+        WHERE c.post.id = :postId AND c.parent IS NULL
+          AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId))
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<CommentRow> findTopLevelRowsAfter(@Param("postId") Long postId,
+                                           @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    @Query("""
+        SELECT new ssedamseedam.ssedam.dto.CommentRow(
+                c.id, c.parent.id, a.nickname, c.content, c.likeCount, c.createdAt)
+        FROM Comment c
+        LEFT JOIN c.author a
+        WHERE c.parent.id = :parentId
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<CommentRow> findReplyRows(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("""
+        SELECT new ssedamseedam.ssedam.dto.CommentRow(
+                c.id, c.parent.id, a.nickname, c.content, c.likeCount, c.createdAt)
+        FROM Comment c
+        LEFT JOIN c.author a
+        WHERE c.parent.id = :parentId
+          AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId))
+        ORDER BY c.createdAt ASC, c.id ASC
+        """)
+    List<CommentRow> findReplyRowsAfter(@Param("parentId") Long parentId,
+                                        @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    /** 부모별 직계 대댓글 수 → [parentId, count] */
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    /**
+     * 부모별 앞쪽 대댓글 limit 개 + 부모별 전체 대댓글 수 (윈도 함수로 한 번에)
+     */
+    @Query(value = """
+        SELECT t.id AS id, t.parent_id AS parentId, u.nickname AS authorNickname,
+               t.content AS content, t.like_count AS likeCount, t.created_at AS createdAt,
+               t.reply_count AS replyCount
+        FROM (
+            SELECT c.*,
+                   ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn,
+                   COUNT(*) OVER (PARTITION BY c.parent_id) AS reply_count
+            FROM comment c
+            WHERE c.parent_id IN (:parentIds)
+        ) t
+        LEFT JOIN users u ON u.id = t.user_id
+        WHERE t.rn <= :limit
+        ORDER BY t.parent_id, t.created_at, t.id
+        """, nativeQuery = true)
+    List<ReplyPreviewRow> findReplyPreviews(@Param("parentIds") Collection<Long> parentIds,
+                                            @Param("limit") int limit);
+
+    /** findReplyPreviews 결과 행 (replyCount 는 부모 기준 전체 대댓글 수) */
+    interface ReplyPreviewRow {
+        Long getId();
+        Long getParentId();
+        String getAuthorNickname();
+        String getContent();
+        Integer getLikeCount();
+        LocalDateTime getCreatedAt();
+        Long getReplyCount();
+    }
+
+    /* 좋아요 카운터 원자적 증감 (반환값 0 이면 댓글 없음) */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
+    int incrementLikeCount(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId AND c.likeCount > 0")
+    int decrementLikeCount(@Param("commentId") Long commentId);
+}
@@ -1,9 +1,12 @@
 package ssedamseedam.ssedam.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import ssedamseedam.ssedam.domain.Faq;
 import java.util.List;
@@ -30,4 +33,13 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
                      @Param("wasteType") String wasteType,
                      @Param("excludeWasteTypes") List<String> excludeWasteTypes,
                      Pageable pageable);
-}
\ No newline at end of file
+
+    /** 필터 목록 (쿼리 캐시: faqs 테이블이 바뀌면 Hibernate 가 무효화) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT f.wasteType FROM Faq f ORDER BY f.wasteType")
+    List<String> findWasteTypes();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT DISTINCT f.category FROM Faq f ORDER BY f.category")
+    List<String> findCategories();
+}
@@ -1,8 +1,13 @@
 package ssedamseedam.ssedam.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssedamseedam.ssedam.domain.PostLike;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -10,4 +15,26 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPostIdAndUserId(Long postId, Long userId);
 
     int countByPostId(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 좋아요 멱등 추가 (단일 문장)
+     * - 이미 있으면 (post_id, user_id) 유니크 제약으로 무시되어 0 반환
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, user_id) VALUES (:postId, :userId)", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /** 좋아요 취소 (없으면 0 반환) */
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /** 유저가 좋아요 누른 게시글 id 전체 (좋아요 비트맵 로딩용) */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    /** 한 페이지 분량의 게시글 중 해당 유저가 좋아요 누른 글 id (IN 한 번) */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId,
+                                @Param("postIds") Collection<Long> postIds);
+}
@@ -1,6 +1,9 @@
 package ssedamseedam.ssedam.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssedamseedam.ssedam.domain.PostReport;
 
 import java.util.Optional;
@@ -8,4 +11,15 @@ import java.util.Optional;
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
 
     Optional<PostReport> findByPostIdAndReporterId(Long postId, Long reporterId);
+
+    /** 신고 멱등 추가 (같은 사람이 같은 글을 이미 신고했으면 0 반환) */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO post_report (post_id, reporter_id, reason, detail, created_at)
+        VALUES (:postId, :reporterId, :reason, :detail, NOW())
+        """, nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId,
+                     @Param("reporterId") Long reporterId,
+                     @Param("reason") String reason,
+                     @Param("detail") String detail);
 }
\ No newline at end of file
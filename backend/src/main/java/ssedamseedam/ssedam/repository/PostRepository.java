@@ -1,15 +1,161 @@
 package ssedamseedam.ssedam.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssedamseedam.ssedam.domain.Post;
 import ssedamseedam.ssedam.domain.PostCategory;
 import ssedamseedam.ssedam.domain.PostStatus;
+import ssedamseedam.ssedam.dto.ModerationItemResponse;
+import ssedamseedam.ssedam.dto.PostSummaryRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * 목록 행(PostSummaryRow) 공통 SELECT ~ FROM (뒤에 WHERE 만 붙여 씀)
+     * - author 는 LEFT JOIN 으로 닉네임만, images 는 EXISTS 로 유무만 확인 (지연 로딩 없음)
+     * - 본문은 LOB 대신 excerpt 컬럼만
+     */
+    String SUMMARY_SELECT = """
+        SELECT new ssedamseedam.ssedam.dto.PostSummaryRow(
+                p.id, p.category, p.title, a.id, a.nickname,
+                p.likeCount, p.commentCount, p.createdAt, p.excerpt,
+                CASE WHEN EXISTS (SELECT i.id FROM PostImage i WHERE i.post = p) THEN true ELSE false END)
+        FROM Post p
+        LEFT JOIN p.author a
+        """;
+
     Page<Post> findByStatus(PostStatus status, Pageable pageable);
 
     Page<Post> findByCategoryAndStatus(PostCategory category, PostStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 목록 전용 프로젝션 (category 가 null 이면 전체)
+     */
+    @Query(value = SUMMARY_SELECT + """
+        WHERE p.status = :status
+          AND (:category IS NULL OR p.category = :category)
+        """,
+        countQuery = """
+        SELECT COUNT(p)
+        FROM Post p
+        WHERE p.status = :status
+          AND (:category IS NULL OR p.category = :category)
+        """)
+    Page<PostSummaryRow> findSummaries(@Param("category") PostCategory category,
+                                       @Param("status") PostStatus status,
+                                       Pageable pageable);
+
+    /** 단건 목록 행 (게시 상태일 때만) - 캐시 증분 갱신용 */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.id = :postId
+          AND p.status = ssedamseedam.ssedam.domain.PostStatus.PUBLISHED
+        """)
+    Optional<PostSummaryRow> findPublishedSummary(@Param("postId") Long postId);
+
+    /** 게시 상태 글인지 (실시간 스트림 구독 확인용) */
+    boolean existsByIdAndStatus(Long id, PostStatus status);
+
+    /** 좋아요 수만 (실시간 스트림 전송용) */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    /** 임시저장 글의 작성자 id (자동 저장 권한 확인용, 임시저장이 아니면 empty) */
+    @Query("""
+        SELECT p.author.id FROM Post p
+        WHERE p.id = :postId
+          AND p.status = ssedamseedam.ssedam.domain.PostStatus.DRAFT
+        """)
+    Optional<Long> findDraftAuthorId(@Param("postId") Long postId);
+
+    /** 게시 상태 글을 id 순으로 나눠 읽기 (검색 색인 초기 구축용) */
+    List<Post> findByStatusAndIdGreaterThanOrderByIdAsc(PostStatus status, Long id, Pageable pageable);
+
+    /** id 목록에 해당하는 게시 상태 글 목록 행 (순서는 호출 측에서 맞춤) */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.id IN :postIds
+          AND p.status = ssedamseedam.ssedam.domain.PostStatus.PUBLISHED
+        """)
+    List<PostSummaryRow> findPublishedSummariesByIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 제목/미리보기 부분 일치 검색 (검색 색인 구축이 끝나기 전 대체 경로, 최신순)
+     * - 본문 LOB 은 보지 않음
+     */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.status = ssedamseedam.ssedam.domain.PostStatus.PUBLISHED
+          AND (:category IS NULL OR p.category = :category)
+          AND (LOWER(p.title) LIKE CONCAT('%', :qLower, '%') OR LOWER(p.excerpt) LIKE CONCAT('%', :qLower, '%'))
+        ORDER BY p.createdAt DESC
+        """)
+    List<PostSummaryRow> searchPublishedSummaries(@Param("qLower") String qLower,
+                                                  @Param("category") PostCategory category,
+                                                  Pageable pageable);
+
+    /** 특정 시각 이후 게시된 글 목록 행 (인기글 후보 초기 로딩용) */
+    @Query(SUMMARY_SELECT + """
+        WHERE p.status = ssedamseedam.ssedam.domain.PostStatus.PUBLISHED
+          AND p.createdAt >= :since
+        """)
+    List<PostSummaryRow> findPublishedSummariesSince(@Param("since") LocalDateTime since);
+
+    /** 신고 수 원자적 +1 (반환값 0 이면 게시글 없음) */
+    @Modifying
+    @Query("UPDATE Post p SET p.reportCount = p.reportCount + 1 WHERE p.id = :postId")
+    int incrementReportCount(@Param("postId") Long postId);
+
+    /** 신고 수가 기준 이상이면 게시 → 숨김 (이미 숨겼거나 기준 미만이면 0) */
+    @Modifying
+    @Query("""
+        UPDATE Post p SET p.status = ssedamseedam.ssedam.domain.PostStatus.HIDDEN
+        WHERE p.id = :postId
+          AND p.status = ssedamseedam.ssedam.domain.PostStatus.PUBLISHED
+          AND p.reportCount >= :threshold
+        """)
+    int hideIfReportedAtLeast(@Param("postId") Long postId, @Param("threshold") int threshold);
+
+    @Query("SELECT p.category FROM Post p WHERE p.id = :postId")
+    PostCategory findCategoryById(@Param("postId") Long postId);
+
+    /** 신고 관리 대기열: 신고 수 많은 순 (reportCount, id 인덱스 역순 스캔) */
+    @Query(value = """
+        SELECT new ssedamseedam.ssedam.dto.ModerationItemResponse(
+                p.id, p.title, p.status, p.reportCount, a.nickname, p.createdAt)
+        FROM Post p
+        LEFT JOIN p.author a
+        WHERE p.reportCount > 0
+        ORDER BY p.reportCount DESC, p.id DESC
+        """,
+        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.reportCount > 0")
+    Page<ModerationItemResponse> findModerationQueue(Pageable pageable);
+
+    /** excerpt 가 없는 기존 글 채우기 (컬럼 추가 이후 한 번) */
+    @Modifying
+    @Query(value = "UPDATE post SET excerpt = LEFT(TRIM(content), :length) WHERE excerpt IS NULL AND content IS NOT NULL",
+            nativeQuery = true)
+    int backfillExcerpts(@Param("length") int length);
+
+    /*
+     * 카운터는 엔티티를 읽지 않고 원자적 UPDATE 로만 변경 (동시 요청에서도 증감 유실 없음)
+     * - 반환값 0 이면 게시글이 없는 것
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+}
@@ -1,12 +1,28 @@
 package ssedamseedam.ssedam.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import ssedamseedam.ssedam.domain.User;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     boolean existsByUsername(String username);
     boolean existsByNickname(String nickname);
-}
\ No newline at end of file
+
+    /** [id, username, nickname] 를 id 순으로 나눠 읽기 (중복 확인 필터 초기 로딩용) */
+    @Query("SELECT u.id, u.username, u.nickname FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findNamesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 로그인 시 재해시 (그 사이 비밀번호가 바뀌었으면 0건, 벌크 UPDATE 라 User 2차 캐시 영역은 통째로 비워짐) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :userId AND u.password = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+}
@@ -0,0 +1,11 @@
+package ssedamseedam.ssedam.repository;
+
+import ssedamseedam.ssedam.domain.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /** 아이디(natural id)로 조회 → 2차 캐시에 있으면 DB 조회 없음 */
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,25 @@
+package ssedamseedam.ssedam.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import ssedamseedam.ssedam.domain.User;
+
+import java.util.Optional;
+
+/**
+ * findByUsername 을 JPQL 대신 Hibernate natural id 조회로
+ * - username → id 는 natural id 캐시, id → User 는 엔티티 캐시에서 찾음
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -0,0 +1,63 @@
+package ssedamseedam.ssedam.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Authorization: Bearer {토큰} 검증 → SecurityContext 에 AuthUser 설정
+ * - 헤더가 없으면 그냥 통과 (비로그인 요청)
+ * - 헤더가 있는데 위조/만료면 401 (클라이언트가 다시 로그인)
+ * - moderatorIds 에 있는 유저는 ROLE_MODERATOR 도 가짐 (역할 컬럼이 생기기 전까지 설정으로 지정)
+ * - SecurityConfig 에서 직접 생성해 체인에 넣음 (빈으로 두면 서블릿 필터로 한 번 더 등록됨)
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final AccessTokens accessTokens;
+    private final Set<Long> moderatorIds;
+
+    public AccessTokenFilter(AccessTokens accessTokens, Set<Long> moderatorIds) {
+        this.accessTokens = accessTokens;
+        this.moderatorIds = Set.copyOf(moderatorIds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AuthUser> user = accessTokens.verify(header.substring(BEARER.length()).trim());
+        if (user.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "토큰이 유효하지 않습니다.");
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        List<GrantedAuthority> authorities = moderatorIds.contains(user.get().id())
+                ? AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_MODERATOR")
+                : AuthorityUtils.createAuthorityList("ROLE_USER");
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(user.get(), null, authorities));
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+}
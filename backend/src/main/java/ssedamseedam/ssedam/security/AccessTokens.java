@@ -0,0 +1,84 @@
+package ssedamseedam.ssedam.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 서명 액세스 토큰 (상태 없음, DB 조회 없이 검증)
+ * 형식: base64url("{userId}:{만료 epoch 초}:{닉네임}") + "." + base64url(서명)
+ * - auth.token.secret 이 비어 있으면 기동할 때마다 새 키 → 재시작하면 다시 로그인해야 함
+ */
+@Slf4j
+@Component
+public class AccessTokens {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    public AccessTokens(@Value("${auth.token.secret:}") String secret,
+                        @Value("${auth.token.ttl:7d}") Duration ttl) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("auth.token.secret 미설정: 임시 키 사용 (재시작 시 토큰 무효)");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, HMAC);
+        this.ttl = ttl;
+    }
+
+    public String issue(Long userId, String nickname) {
+        long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+        String payload = userId + ":" + expiresAt + ":" + (nickname == null ? "" : nickname);
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(body) + "." + ENCODER.encodeToString(sign(body));
+    }
+
+    /**
+     * 서명/만료 확인 (형식이 틀리거나 위조/만료면 empty)
+     */
+    public Optional<AuthUser> verify(String token) {
+        int dot = (token == null) ? -1 : token.indexOf('.');
+        if (dot <= 0) return Optional.empty();
+        try {
+            byte[] body = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(body), signature)) return Optional.empty();
+
+            String[] parts = new String(body, StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3) return Optional.empty();
+            if (Long.parseLong(parts[1]) < Instant.now().getEpochSecond()) return Optional.empty();
+            return Optional.of(new AuthUser(Long.parseLong(parts[0]), parts[2]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();   // base64/숫자 형식 오류
+        }
+    }
+
+    private byte[] sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
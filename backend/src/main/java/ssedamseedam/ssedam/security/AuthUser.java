@@ -0,0 +1,7 @@
+package ssedamseedam.ssedam.security;
+
+/**
+ * 액세스 토큰에서 꺼낸 로그인 사용자 (SecurityContext 의 principal)
+ */
+public record AuthUser(Long id, String nickname) {
+}
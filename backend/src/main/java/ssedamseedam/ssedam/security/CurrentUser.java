@@ -0,0 +1,19 @@
+package ssedamseedam.ssedam.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 로그인 사용자 id(Long) 주입
+ * - 액세스 토큰의 사용자 id
+ * - 토큰이 없고 auth.token.allow-legacy-user-param=true 면 예전처럼 ?userId= 값 (프론트 전환 기간용)
+ * - required = true 인데 둘 다 없으면 401
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+
+    boolean required() default true;
+}
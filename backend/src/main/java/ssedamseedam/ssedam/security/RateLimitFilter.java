@@ -0,0 +1,82 @@
+package ssedamseedam.ssedam.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비싼 API 빈도 제한 필터 (AccessTokenFilter 다음에 실행)
+ * - 키: 토큰이 있으면 사용자 id, 없으면 클라이언트 IP (로그인/가입은 항상 IP)
+ * - 응답 헤더: X-RateLimit-Limit, X-RateLimit-Remaining, 초과 시 429 + Retry-After(초)
+ * - 프록시 뒤라면 server.forward-headers-strategy 를 설정해야 실제 IP 로 구분됨
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    static RateLimiter.Group groupOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        if ("POST".equals(method) && path.equals("/api/ai/analyze-image")) {
+            return RateLimiter.Group.AI;
+        }
+        if ("GET".equals(method) && path.equals("/api/faqs")) {
+            return RateLimiter.Group.FAQ_SEARCH;
+        }
+        if ("POST".equals(method) && (path.equals("/api/users/login") || path.equals("/api/users/signup"))) {
+            return RateLimiter.Group.LOGIN;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || groupOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RateLimiter.Group group = groupOf(request);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(group, clientKey(group, request));
+
+        response.setIntHeader("X-RateLimit-Limit", decision.limit());
+        response.setIntHeader("X-RateLimit-Remaining", decision.remaining());
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}");
+    }
+
+    private static String clientKey(RateLimiter.Group group, HttpServletRequest request) {
+        if (group != RateLimiter.Group.LOGIN) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.getPrincipal() instanceof AuthUser user) {
+                return "u" + user.id();
+            }
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,109 @@
+package ssedamseedam.ssedam.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비싼 API 호출 빈도 제한 (그룹 + 사용자/IP 별 토큰 버킷)
+ * - 버킷 상태는 "다음 토큰이 꽉 차는 이론 시각(TAT)" long 하나 → CAS 한 번으로 갱신 (GCRA, 토큰 버킷과 동일한 동작)
+ * - 설정 형식: "{버킷 크기}/{다 채워지는 시간}"  예) 5/1m = 최대 5번 연속, 12초마다 1개씩 회복
+ * - 버킷은 크기 제한 Caffeine 캐시에 보관: 가장 긴 회복 시간 동안 안 쓰면 만료 (다 회복된 버킷 = 새 버킷)
+ * - 키가 max-keys 를 넘으면 Caffeine 이 덜 쓰인 키부터 축출 (요청마다 전체 스캔 없음)
+ */
+@Component
+public class RateLimiter {
+
+    /** 제한 대상 그룹 (경로 매칭은 RateLimitFilter) */
+    public enum Group {
+        AI, FAQ_SEARCH, LOGIN
+    }
+
+    /** 판정 결과 (retryAfterNanos 는 거절일 때만 의미 있음) */
+    public record Decision(boolean allowed, int limit, int remaining, long retryAfterNanos) {
+    }
+
+    private record Limit(int capacity, long intervalNanos) {
+
+        /** 비어 있던 버킷이 다 차는 시간 */
+        long periodNanos() {
+            return intervalNanos * capacity;
+        }
+
+        /** 처음 요청부터 연속으로 허용할 수 있는 여유 (capacity - 1 개분) */
+        long tolerance() {
+            return intervalNanos * (capacity - 1);
+        }
+
+        static Limit parse(String spec) {
+            int slash = spec.indexOf('/');
+            int capacity = Integer.parseInt(spec.substring(0, slash).trim());
+            Duration period = DurationStyle.detectAndParse(spec.substring(slash + 1).trim());
+            if (capacity <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("잘못된 rate-limit 설정: " + spec);
+            }
+            return new Limit(capacity, period.toNanos() / capacity);
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<Group, Limit> limits = new EnumMap<>(Group.class);
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.max-keys:100000}") int maxKeys,
+                       @Value("${rate-limit.ai:5/1m}") String ai,
+                       @Value("${rate-limit.faq-search:20/10s}") String faqSearch,
+                       @Value("${rate-limit.login:10/1m}") String login) {
+        this.enabled = enabled;
+        limits.put(Group.AI, Limit.parse(ai));
+        limits.put(Group.FAQ_SEARCH, Limit.parse(faqSearch));
+        limits.put(Group.LOGIN, Limit.parse(login));
+
+        long longestPeriod = limits.values().stream().mapToLong(Limit::periodNanos).max().orElseThrow();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(longestPeriod))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰 하나 사용 시도 (락 없음, 경합 시 CAS 재시도)
+     */
+    public Decision tryAcquire(Group group, String clientKey) {
+        Limit limit = limits.get(group);
+        AtomicLong tat = buckets.get(group.name() + ":" + clientKey, k -> new AtomicLong());
+
+        while (true) {
+            long now = System.nanoTime();
+            long cur = tat.get();
+            long start = (cur == 0L || cur - now < 0) ? now : cur;
+            long next = start + limit.intervalNanos();
+            long allowAt = next - limit.intervalNanos() - limit.tolerance();
+
+            if (allowAt - now > 0) {
+                return new Decision(false, limit.capacity(), 0, allowAt - now);
+            }
+            if (tat.compareAndSet(cur, next)) {
+                int remaining = (int) ((limit.tolerance() - (next - now - limit.intervalNanos())) / limit.intervalNanos());
+                return new Decision(true, limit.capacity(), Math.max(0, remaining), 0L);
+            }
+        }
+    }
+
+    /** 현재 버킷 수 (운영 확인용, 근삿값) */
+    public long bucketCount() {
+        return buckets.estimatedSize();
+    }
+}
@@ -1,6 +1,9 @@
 package ssedamseedam.ssedam.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -11,15 +14,20 @@ import ssedamseedam.ssedam.dto.AnalyzeImageResponseDto;
 
 import java.io.IOException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiAnalyzeService {
 
+    private final RestTemplate restTemplate;      // http.client.requests 메트릭 포함
+    private final MeterRegistry meterRegistry;
+
     public AnalyzeImageResponseDto analyzeImage(MultipartFile image) {
 
+        // 추론 서버 호출 전체 시간 (업로드 스트림 포함), 결과별 태그
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
             String fastApiUrl = "http://localhost:8000/analyze-image";
 
             // 🔥 FastAPI에 보낼 multipart form-data 생성
@@ -43,11 +51,18 @@ public class AiAnalyzeService {
                             AnalyzeImageResponseDto.class
                     );
 
+            outcome = "success";
             return response.getBody();
 
         } catch (IOException e) {
-            e.printStackTrace();
+            log.warn("분석 이미지 읽기 실패: file={}", image.getOriginalFilename(), e);
             return null;
+        } finally {
+            sample.stop(Timer.builder("ai.analyze")
+                    .description("추론 서버 이미지 분석 호출")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
-}
\ No newline at end of file
+}
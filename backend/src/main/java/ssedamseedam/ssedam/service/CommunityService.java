@@ -1,6 +1,10 @@
 package ssedamseedam.ssedam.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;   // ✅ 추가
@@ -8,10 +12,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ssedamseedam.ssedam.domain.*;
 import ssedamseedam.ssedam.dto.*;
+import ssedamseedam.ssedam.event.CommentCreatedEvent;
+import ssedamseedam.ssedam.event.CommentLikeChangedEvent;
+import ssedamseedam.ssedam.event.PostLikeChangedEvent;
+import ssedamseedam.ssedam.event.PostSavedEvent;
 import ssedamseedam.ssedam.repository.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +42,21 @@ public class CommunityService {
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final UserRepository userRepository;   // 기존에 있던 거 재사용
+    private final HotFeedCache hotFeedCache;
+    private final UserLikeIndex userLikeIndex;
+    private final TrendingPosts trendingPosts;
+    private final PostSearchIndex postSearchIndex;
+    private final DraftAutosaver draftAutosaver;
+    private final ApplicationEventPublisher events;   // 커밋 후 캐시/인덱스 갱신용
+
+    @Value("${community.post.excerpt-length:120}")
+    private int excerptLength;                         // 목록 미리보기 길이
+
+    @Value("${community.moderation.hide-threshold:5}")
+    private int hideThreshold;                         // 이 신고 수 이상이면 자동 숨김
+
+    @Value("${community.comments.reply-preview:3}")
+    private int replyPreviewSize;                      // 댓글 페이지에서 부모마다 미리 붙일 대댓글 수
 
     /**
      * 게시글 목록
@@ -42,42 +74,106 @@ public class CommunityService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<Post> posts;
-        if (category == null) {
-            posts = postRepository.findByStatus(PostStatus.PUBLISHED, pr);
+        // 최신 N개 범위면 인메모리 스냅샷, 아니면 프로젝션 쿼리 한 번 (지연 로딩 없음)
+        Page<PostSummaryResponse> base = hotFeedCache.page(category, page, size)
+                .orElseGet(() -> postRepository
+                        .findSummaries(category, PostStatus.PUBLISHED, pr)
+                        .map(PostSummaryResponse::of));
+
+        if (currentUserId == null || !base.hasContent()) {
+            return base;
+        }
+
+        // 사용자별 필드는 공유 스냅샷을 건드리지 않고 요청마다 덮어씀
+        // 좋아요 여부는 유저별 비트맵에서 (id 가 int 범위를 넘는 경우만 IN 쿼리)
+        List<Long> ids = base.getContent().stream().map(PostSummaryResponse::getId).toList();
+        Predicate<Long> liked;
+        if (ids.stream().allMatch(UserLikeIndex::inRange)) {
+            liked = userLikeIndex.get(currentUserId)::likesPost;
         } else {
-            posts = postRepository.findByCategoryAndStatus(category, PostStatus.PUBLISHED, pr);
+            liked = new HashSet<>(postLikeRepository.findLikedPostIds(currentUserId, ids))::contains;
         }
 
-        return posts.map(p -> {
-            Long authorId = (p.getAuthor() != null ? p.getAuthor().getId() : null);
+        return base.map(s -> s.toBuilder()
+                .liked(liked.test(s.getId()))
+                .mine(currentUserId.equals(s.getAuthorId()))
+                .build());
+    }
 
-            boolean liked = false;
-            if (currentUserId != null) {
-                liked = postLikeRepository
-                        .findByPostIdAndUserId(p.getId(), currentUserId)
-                        .isPresent();
+    /**
+     * 인기글 (메모리 랭킹 스냅샷, liked/mine 만 요청마다 덮어씀)
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getTrendingPosts(PostCategory category, int size, Long currentUserId) {
+        List<PostSummaryResponse> top = trendingPosts.top(category, size);
+        if (currentUserId == null || top.isEmpty()) {
+            return top;
+        }
+        UserLikeIndex.UserLikes likes = userLikeIndex.get(currentUserId);
+        return top.stream()
+                .map(s -> s.toBuilder()
+                        .liked(likes.likesPost(s.getId()))
+                        .mine(currentUserId.equals(s.getAuthorId()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 게시글 검색 (인메모리 역색인 BM25 순위 → 해당 글 요약은 IN 쿼리 한 번)
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> searchPosts(String q, PostCategory category, int size, Long currentUserId) {
+        if (q == null || q.isBlank()) {
+            return List.of();
+        }
+        int limit = (size <= 0) ? 20 : Math.min(size, 50);
+
+        // 색인 구축 중에는 일부 글만 들어 있으므로 DB 부분 일치 검색으로 대체
+        if (!postSearchIndex.isReady()) {
+            return withLikes(postRepository.searchPublishedSummaries(
+                    q.trim().toLowerCase(Locale.ROOT), category, PageRequest.of(0, limit)), currentUserId);
+        }
+
+        List<PostSearchIndex.Hit> hits = postSearchIndex.search(q, category, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummaryRow> rows = new HashMap<>();
+        postRepository.findPublishedSummariesByIds(hits.stream().map(PostSearchIndex.Hit::postId).toList())
+                .forEach(r -> rows.put(r.getId(), r));
+
+        List<PostSummaryRow> ranked = new ArrayList<>(hits.size());
+        for (PostSearchIndex.Hit hit : hits) {
+            PostSummaryRow r = rows.get(hit.postId());
+            if (r != null) ranked.add(r);   // null: 색인 반영 직전에 삭제된 글
+        }
+        return withLikes(ranked, currentUserId);
+    }
+
+    /** 목록 행 → 응답 (로그인 유저면 liked/mine 채움) */
+    private List<PostSummaryResponse> withLikes(List<PostSummaryRow> rows, Long currentUserId) {
+        UserLikeIndex.UserLikes likes = (currentUserId != null) ? userLikeIndex.get(currentUserId) : null;
+        List<PostSummaryResponse> result = new ArrayList<>(rows.size());
+        for (PostSummaryRow r : rows) {
+            PostSummaryResponse s = PostSummaryResponse.of(r);
+            if (likes != null) {
+                s = s.toBuilder()
+                        .liked(likes.likesPost(s.getId()))
+                        .mine(currentUserId.equals(s.getAuthorId()))
+                        .build();
             }
+            result.add(s);
+        }
+        return result;
+    }
 
-            boolean mine = currentUserId != null
-                    && authorId != null
-                    && authorId.equals(currentUserId);
-
-            return PostSummaryResponse.builder()
-                    .id(p.getId())
-                    .category(p.getCategory().name())
-                    .title(p.getTitle())
-                    .writer(p.getAuthor() != null ? p.getAuthor().getNickname() : "익명")
-                    .likeCount(p.getLikeCount())
-                    .commentCount(p.getCommentCount())
-                    .createdAt(p.getCreatedAt())
-                    .content(p.getContent())
-                    .hasPhoto(!p.getImages().isEmpty())
-                    .authorId(authorId)
-                    .liked(liked)
-                    .mine(mine)
-                    .build();
-        });
+    /**
+     * excerpt 컬럼이 생기기 전에 작성된 글 채우기 (기동 시 한 번, 이미 채워졌으면 0건)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillExcerpts() {
+        postRepository.backfillExcerpts(Math.min(excerptLength, Post.EXCERPT_MAX_LENGTH));
     }
 
     /**
@@ -95,9 +191,13 @@ public class CommunityService {
                 .content(post.getContent())
                 .writer(post.getAuthor() != null ? post.getAuthor().getNickname() : "익명")
                 .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
                 .images(post.getImages().stream().map(PostImage::getImageUrl).toList())
+                .liked(currentUserId != null && userLikeIndex.get(currentUserId).likesPost(postId))
+                .mine(currentUserId != null && post.getAuthor() != null
+                        && currentUserId.equals(post.getAuthor().getId()))
                 .build();
     }
 
@@ -105,16 +205,14 @@ public class CommunityService {
      * 게시글 작성 (임시저장 포함)
      */
     public Long createPost(PostCreateRequest dto, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-
+        // 작성자는 토큰으로 확인된 id → 조회 없이 참조 프록시로만 연결
         Post post = Post.builder()
-                .author(user)
+                .author(userRepository.getReferenceById(userId))
                 .category(dto.getCategory())
                 .title(dto.getTitle())
-                .content(dto.getContent())
                 .status(dto.isDraft() ? PostStatus.DRAFT : PostStatus.PUBLISHED)
                 .build();
+        post.changeContent(dto.getContent(), excerptLength);
 
         if (dto.getImageUrls() != null) {
             dto.getImageUrls().forEach(url -> post.addImage(
@@ -123,11 +221,15 @@ public class CommunityService {
         }
 
         postRepository.save(post);
+        events.publishEvent(PostSavedEvent.created(post.getId()));
         return post.getId();
     }
 
     /**
      * 게시글 수정
+     * - 대기 중인 자동 저장은 작성자 확인 뒤에 버림 (남의 글 요청으로 자동 저장이 사라지지 않게)
+     * - 이미지는 차이만 반영, 값이 같은 필드는 dirty 가 아니라서 UPDATE 도 생략됨
+     * - 캐시/색인 이벤트는 게시 글이 관련될 때만 (임시저장 → 임시저장은 아무도 안 봄)
      */
     public void updatePost(Long postId, PostUpdateRequest dto, Long userId) {
         Post post = postRepository.findById(postId)
@@ -136,125 +238,290 @@ public class CommunityService {
         if (!post.getAuthor().getId().equals(userId)) {
             throw new IllegalStateException("본인 글만 수정 가능합니다.");
         }
-
-        post.setCategory(dto.getCategory());
-        post.setTitle(dto.getTitle());
-        post.setContent(dto.getContent());
-
-        // 이미지 교체
-        post.getImages().clear();
-        if (dto.getImageUrls() != null) {
-            dto.getImageUrls().forEach(url -> post.addImage(
-                    PostImage.builder().imageUrl(url).build()
-            ));
+        if (post.getStatus() == PostStatus.DELETED) {
+            throw new IllegalStateException("삭제된 게시글은 수정할 수 없습니다.");
         }
+        draftAutosaver.discard(postId);   // 대기 중인 자동 저장이 나중에 덮어쓰지 않게 (작성자 확인 뒤에만)
+        PostStatus previousStatus = post.getStatus();
+        PostCategory previousCategory = post.getCategory();
 
+        applyEdit(post, dto);
         if (dto.isPublish()) {
             post.setStatus(PostStatus.PUBLISHED);
         }
+
+        if (previousStatus == PostStatus.PUBLISHED || post.getStatus() == PostStatus.PUBLISHED) {
+            events.publishEvent(new PostSavedEvent(postId, previousStatus, previousCategory));
+        }
     }
 
     /**
-     * 좋아요
+     * 임시저장 글 자동 저장 (DraftAutosaver 가 모아서 호출)
+     * - 그 사이 게시/삭제된 글이면(DRAFT 가 아니면) 늦게 도착한 자동 저장은 버림
      */
-    public void likePost(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
-
-        boolean already = postLikeRepository.findByPostIdAndUserId(postId, userId).isPresent();
-        if (already) {
-            return; // 이미 눌렀으면 무시
+    public void saveDraft(Long postId, PostUpdateRequest dto, Long userId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null || post.getStatus() != PostStatus.DRAFT
+                || post.getAuthor() == null || !post.getAuthor().getId().equals(userId)) {
+            return;
         }
+        applyEdit(post, dto);
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
+    private void applyEdit(Post post, PostUpdateRequest dto) {
+        post.setCategory(dto.getCategory());
+        post.setTitle(dto.getTitle());
+        post.changeContent(dto.getContent(), excerptLength);
+        post.replaceImages(dto.getImageUrls());
+    }
 
-        PostLike like = PostLike.builder()
-                .post(post)
-                .user(user)
-                .build();
-        postLikeRepository.save(like);
+    /**
+     * 좋아요
+     * - INSERT IGNORE 한 문장으로 멱등 처리, 실제로 들어갔을 때만 카운터 +1
+     */
+    public void likePost(Long postId, Long userId) {
+        int inserted = postLikeRepository.insertIgnore(postId, userId);
+        if (inserted == 1) {
+            postRepository.incrementLikeCount(postId);
+            events.publishEvent(new PostLikeChangedEvent(postId, userId, true));
+        } else if (!postRepository.existsById(postId)) {
+            // INSERT IGNORE 는 FK 위반도 무시하므로, 0건일 때만 존재 여부 확인
+            throw new IllegalArgumentException("게시글이 없습니다.");
+        }
+    }
 
-        post.setLikeCount(post.getLikeCount() + 1);
+    /**
+     * 좋아요 취소 (이미 취소돼 있으면 무시)
+     */
+    public void unlikePost(Long postId, Long userId) {
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 1) {
+            postRepository.decrementLikeCount(postId);
+            events.publishEvent(new PostLikeChangedEvent(postId, userId, false));
+        }
     }
 
     /**
      * 댓글 작성 (대댓글 포함)
+     * - 게시글/유저/부모 댓글은 조회 없이 참조 프록시로만 연결 (부모는 EXISTS 로 같은 글인지만 확인)
      */
     public Long createComment(Long postId, CommentCreateRequest dto, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
+        // 부모는 참조 프록시로만 붙이므로 존재/같은 글 여부는 여기서 확인 (다른 글의 댓글에 달리지 않게)
+        if (dto.getParentId() != null && !commentRepository.existsByIdAndPostId(dto.getParentId(), postId)) {
+            throw new IllegalArgumentException("부모 댓글이 없습니다.");
+        }
+        if (postRepository.incrementCommentCount(postId) == 0) {
+            throw new IllegalArgumentException("게시글이 없습니다.");
+        }
 
         Comment comment = Comment.builder()
-                .post(post)
-                .author(user)
+                .post(postRepository.getReferenceById(postId))
+                .author(userRepository.getReferenceById(userId))
                 .content(dto.getContent())
                 .build();
 
         if (dto.getParentId() != null) {
-            Comment parent = commentRepository.findById(dto.getParentId())
-                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글이 없습니다."));
-            comment.setParent(parent);
+            comment.setParent(commentRepository.getReferenceById(dto.getParentId()));
         }
 
         commentRepository.save(comment);
-
-        post.setCommentCount(post.getCommentCount() + 1);
-
+        events.publishEvent(new CommentCreatedEvent(postId, comment.getId(), dto.getParentId(), userId));
         return comment.getId();
     }
 
     /**
      * 게시글의 댓글들 조회
+     * - 댓글 전체를 한 번에 가져와서 parentId 기준으로 메모리에서 트리 조립 (O(n))
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getComments(Long postId, Long currentUserId) {
+        return buildCommentTree(commentRepository.findRowsByPostId(postId), likedComments(currentUserId));
+    }
+
+    /**
+     * 댓글 페이지
+     * - 부모 댓글만 커서 기반으로 size 개, 각 부모에는 대댓글 수 + 앞쪽 몇 개만 붙임
+     * - 쿼리 수는 페이지 크기와 무관하게 최대 3번 (부모 페이지, 대댓글 미리보기, 미리보기의 대댓글 수)
      */
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(Long postId) {
-        // 부모 댓글만 가져오고, 자식은 각각 조회
-        List<Comment> parents = commentRepository.findByPostIdAndParentIsNullOrderByCreatedAtAsc(postId);
+    public CommentPageResponse getCommentPage(Long postId, String cursor, int size, Long currentUserId) {
+        int limit = clampCommentPageSize(size);
+        PageRequest pr = PageRequest.of(0, limit + 1);   // 한 개 더 읽어서 다음 페이지 유무 판단
+        CommentCursor after = CommentCursor.decode(cursor);
+
+        List<CommentRow> rows = (after == null)
+                ? commentRepository.findTopLevelRows(postId, pr)
+                : commentRepository.findTopLevelRowsAfter(postId, after.createdAt(), after.id(), pr);
+        return toCommentPage(rows, limit, likedComments(currentUserId), true);
+    }
 
-        return parents.stream()
-                .map(this::toCommentResponse)
-                .collect(Collectors.toList());
+    /**
+     * 대댓글 더보기 (한 부모의 직계 대댓글을 커서 기반으로)
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponse getReplies(Long commentId, String cursor, int size, Long currentUserId) {
+        int limit = clampCommentPageSize(size);
+        PageRequest pr = PageRequest.of(0, limit + 1);
+        CommentCursor after = CommentCursor.decode(cursor);
+
+        List<CommentRow> rows = (after == null)
+                ? commentRepository.findReplyRows(commentId, pr)
+                : commentRepository.findReplyRowsAfter(commentId, after.createdAt(), after.id(), pr);
+        return toCommentPage(rows, limit, likedComments(currentUserId), false);
     }
 
-    private CommentResponse toCommentResponse(Comment c) {
-        List<CommentResponse> replies = c.getChildren().stream()
-                .map(this::toCommentResponse)
-                .collect(Collectors.toList());
+    private CommentPageResponse toCommentPage(List<CommentRow> rows,
+                                              int limit,
+                                              Predicate<Long> liked,
+                                              boolean withReplyPreviews) {
+        boolean hasNext = rows.size() > limit;
+        List<CommentRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        List<CommentResponse> items = new ArrayList<>(pageRows.size());
+        for (CommentRow r : pageRows) {
+            CommentResponse node = toCommentResponse(r);
+            node.setLiked(liked.test(r.getId()));
+            items.add(node);
+        }
 
-        return CommentResponse.builder()
-                .id(c.getId())
-                .writer(c.getAuthor() != null ? c.getAuthor().getNickname() : "익명")
-                .content(c.getContent())
-                .likeCount(c.getLikeCount())
-                .createdAt(c.getCreatedAt())
-                .replies(replies)
-                .build();
+        if (withReplyPreviews && replyPreviewSize > 0) {
+            attachReplyPreviews(items, liked);
+        } else {
+            attachReplyCounts(items);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CommentPageResponse(items, nextCursor);
+    }
+
+    /** 부모마다 앞쪽 대댓글 replyPreviewSize 개 + 전체 대댓글 수 */
+    private void attachReplyPreviews(List<CommentResponse> parents, Predicate<Long> liked) {
+        if (parents.isEmpty()) return;
+        Map<Long, CommentResponse> byId = new LinkedHashMap<>();
+        parents.forEach(p -> byId.put(p.getId(), p));
+
+        List<CommentResponse> previews = new ArrayList<>();
+        for (CommentRepository.ReplyPreviewRow r : commentRepository.findReplyPreviews(byId.keySet(), replyPreviewSize)) {
+            CommentResponse parent = byId.get(r.getParentId());
+            parent.setReplyCount(r.getReplyCount());
+
+            CommentResponse reply = CommentResponse.builder()
+                    .id(r.getId())
+                    .writer(r.getAuthorNickname() != null ? r.getAuthorNickname() : "익명")
+                    .content(r.getContent())
+                    .likeCount(r.getLikeCount() != null ? r.getLikeCount() : 0)
+                    .createdAt(r.getCreatedAt())
+                    .liked(liked.test(r.getId()))
+                    .replies(new ArrayList<>())
+                    .build();
+            parent.getReplies().add(reply);
+            previews.add(reply);
+        }
+        attachReplyCounts(previews);
+    }
+
+    /** 직계 대댓글 수만 (GROUP BY 한 번) */
+    private void attachReplyCounts(List<CommentResponse> nodes) {
+        if (nodes.isEmpty()) return;
+        Map<Long, CommentResponse> byId = new HashMap<>();
+        nodes.forEach(n -> byId.put(n.getId(), n));
+        for (Object[] row : commentRepository.countRepliesByParentIds(byId.keySet())) {
+            byId.get((Long) row[0]).setReplyCount((Long) row[1]);
+        }
+    }
+
+    private static int clampCommentPageSize(int size) {
+        if (size <= 0) return 20;
+        return Math.min(size, 100);   // 과도한 요청 방지
+    }
+
+    private Predicate<Long> likedComments(Long currentUserId) {
+        return (currentUserId == null)
+                ? id -> false
+                : userLikeIndex.get(currentUserId)::likesComment;
     }
 
     /**
-     * 댓글 좋아요
+     * 댓글 커서 (마지막 항목의 createdAt, id) → URL 에 그대로 쓸 수 있는 문자열
      */
-    public void likeComment(Long commentId, Long userId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글이 없습니다."));
+    record CommentCursor(LocalDateTime createdAt, Long id) {
 
-        boolean already = commentLikeRepository.findByCommentIdAndUserId(commentId, userId).isPresent();
-        if (already) return;
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static CommentCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new CommentCursor(
+                        LocalDateTime.parse(raw.substring(0, sep)),
+                        Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+
+    static List<CommentResponse> buildCommentTree(List<CommentRow> rows, Predicate<Long> liked) {
+        Map<Long, CommentResponse> byId = new HashMap<>(rows.size() * 2);
+        for (CommentRow r : rows) {
+            CommentResponse node = toCommentResponse(r);
+            node.setLiked(liked.test(r.getId()));
+            byId.put(r.getId(), node);
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentRow r : rows) {
+            CommentResponse node = byId.get(r.getId());
+            CommentResponse parent = (r.getParentId() != null ? byId.get(r.getParentId()) : null);
+            if (parent != null) {
+                parent.getReplies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        byId.values().forEach(n -> n.setReplyCount(n.getReplies().size()));
+        return roots;
+    }
 
-        CommentLike like = CommentLike.builder()
-                .comment(comment)
-                .user(user)
+    private static CommentResponse toCommentResponse(CommentRow r) {
+        return CommentResponse.builder()
+                .id(r.getId())
+                .writer(r.getAuthorNickname() != null ? r.getAuthorNickname() : "익명")
+                .content(r.getContent())
+                .likeCount(r.getLikeCount())
+                .createdAt(r.getCreatedAt())
+                .replies(new ArrayList<>())
                 .build();
-        commentLikeRepository.save(like);
+    }
+
+    /**
+     * 댓글 좋아요 (멱등)
+     */
+    public void likeComment(Long commentId, Long userId) {
+        int inserted = commentLikeRepository.insertIgnore(commentId, userId);
+        if (inserted == 1) {
+            commentRepository.incrementLikeCount(commentId);
+            events.publishEvent(new CommentLikeChangedEvent(commentId, userId, true));
+        } else if (!commentRepository.existsById(commentId)) {
+            throw new IllegalArgumentException("댓글이 없습니다.");
+        }
+    }
 
-        comment.setLikeCount(comment.getLikeCount() + 1);
+    /**
+     * 댓글 좋아요 취소
+     */
+    public void unlikeComment(Long commentId, Long userId) {
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId) == 1) {
+            commentRepository.decrementLikeCount(commentId);
+            events.publishEvent(new CommentLikeChangedEvent(commentId, userId, false));
+        }
     }
 
     // 신고 메서드 위쪽 아무 데나 추가
@@ -267,39 +534,48 @@ public class CommunityService {
         if (post.getAuthor() == null || !post.getAuthor().getId().equals(userId)) {
             throw new IllegalStateException("본인 글만 삭제할 수 있습니다.");
         }
+        if (post.getStatus() == PostStatus.DELETED) return;
+        draftAutosaver.discard(postId);
+        events.publishEvent(new PostSavedEvent(postId, post.getStatus(), post.getCategory()));
 
         // ✅ 물리 삭제 대신 "소프트 삭제" 처리
-        //    - 상태를 PUBLISHED가 아닌 값으로 바꿔서 목록에서 안 보이게 함
-        post.setStatus(PostStatus.DRAFT);  // 또는 DELETED 같은 상태가 있으면 그걸 사용
+        //    - DELETED 는 목록/검색에서 빠지고, 임시저장(DRAFT)과 달리 늦게 온 자동 저장으로 되살아나지 않음
+        post.setStatus(PostStatus.DELETED);
 
         // (선택) 내용 가리기
         post.setTitle("(삭제된 게시글입니다)");
-        post.setContent("");
+        post.changeContent("", excerptLength);
     }
 
 
     /**
      * 게시글 신고
+     * - INSERT IGNORE 로 한 사람당 한 번만, 실제로 들어갔을 때만 신고 수 +1
+     * - 신고 수가 기준 이상이 되면 자동으로 숨김 처리 (목록/검색/인기글에서 빠짐)
      */
     public void reportPost(Long postId, PostReportRequest dto, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
-
-        boolean already = postReportRepository.findByPostIdAndReporterId(postId, userId).isPresent();
-        if (already) {
+        int inserted = postReportRepository.insertIgnore(postId, userId, dto.getReason(), dto.getDetail());
+        if (inserted == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new IllegalArgumentException("게시글이 없습니다.");
+            }
             return; // 이미 신고한 사람
         }
 
-        User reporter = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-
-        PostReport report = PostReport.builder()
-                .post(post)
-                .reporter(reporter)
-                .reason(dto.getReason())
-                .detail(dto.getDetail())
-                .build();
+        postRepository.incrementReportCount(postId);
+        if (postRepository.hideIfReportedAtLeast(postId, hideThreshold) == 1) {
+            PostCategory category = postRepository.findCategoryById(postId);
+            events.publishEvent(new PostSavedEvent(postId, PostStatus.PUBLISHED, category));
+        }
+    }
 
-        postReportRepository.save(report);
+    /**
+     * 신고 관리 대기열 (신고 수 많은 순)
+     */
+    @Transactional(readOnly = true)
+    public Page<ModerationItemResponse> getModerationQueue(int page, int size) {
+        int p = Math.max(page, 0);
+        int s = (size <= 0) ? 20 : Math.min(size, 100);
+        return postRepository.findModerationQueue(PageRequest.of(p, s));
     }
 }
@@ -0,0 +1,74 @@
+package ssedamseedam.ssedam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ssedamseedam.ssedam.domain.User;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * 최근 로그인 성공한 자격 증명 캐시 (짧은 TTL)
+ * - 같은 유저가 짧은 시간 안에 다시 로그인하면 bcrypt 대신 HMAC 한 번으로 확인
+ * - 평문은 저장하지 않음: 프로세스마다 새로 만든 비밀 키로 HMAC-SHA256 한 값만 보관
+ * - DB 의 해시가 바뀌면(비밀번호 변경/재해시) 캐시 항목은 자동으로 무효
+ */
+@Component
+public class CredentialCache {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final byte[] key = new byte[32];
+    private final Cache<Long, Entry> cache;
+
+    public CredentialCache(@Value("${auth.password.cache-ttl:5m}") Duration ttl,
+                           @Value("${auth.password.cache-size:10000}") long maxSize) {
+        new SecureRandom().nextBytes(key);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /** 검증에 쓴 DB 해시 + 비밀번호 HMAC */
+    private record Entry(String passwordHash, byte[] mac) {
+    }
+
+    public boolean matches(User user, String rawPassword) {
+        Entry e = cache.getIfPresent(user.getId());
+        return e != null
+                && e.passwordHash().equals(user.getPassword())
+                && MessageDigest.isEqual(e.mac(), mac(rawPassword));
+    }
+
+    public void put(User user, String rawPassword) {
+        cache.put(user.getId(), new Entry(user.getPassword(), mac(rawPassword)));
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private byte[] mac(String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(key, HMAC));
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 캐시로 bcrypt 를 생략한 비율 */
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+}
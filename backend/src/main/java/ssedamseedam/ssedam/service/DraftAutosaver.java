@@ -0,0 +1,157 @@
+package ssedamseedam.ssedam.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import ssedamseedam.ssedam.dto.PostUpdateRequest;
+import ssedamseedam.ssedam.repository.PostRepository;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 임시저장 글 자동 저장 모으기
+ * - 같은 글의 자동 저장이 연달아 오면 메모리에서 최신 내용만 남기고, 글마다 interval 에 최대 한 번만 DB 에 씀
+ * - 쉬다가 처음 온 자동 저장은 바로 씀 (직전 쓰기 후 interval 이 지났으면 지연 없음)
+ * - 명시적 저장/게시/삭제는 CommunityService 가 작성자 확인 뒤 discard 로 대기 중인 자동 저장을 버림
+ *   discard 는 그 글의 진행 중인 쓰기가 커밋될 때까지 기다림 → 그 뒤의 명시적 저장이 항상 마지막
+ * - 쓰기 잠금은 글마다 (슬롯에 보관) → 한 글의 느린 쓰기가 다른 글의 저장/삭제를 막지 않음
+ * - 서버 종료 시 대기 중인 내용은 바로 씀
+ */
+@Slf4j
+@Component
+public class DraftAutosaver {
+
+    private final CommunityService communityService;
+    private final PostRepository postRepository;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    /** postId → 자동 저장 상태 (불변, compute 로만 교체) */
+    private final ConcurrentMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    /** 슬롯 세대: discard 뒤 새로 생긴 슬롯과 구분 */
+    private final AtomicLong generations = new AtomicLong();
+
+    /**
+     * @param generation  슬롯 세대 (discard 되면 같은 세대의 쓰기는 버림)
+     * @param latest      아직 안 쓴 최신 내용 (없으면 null)
+     * @param lastWriteAt 마지막으로 DB 에 쓴 시각(ms)
+     * @param scheduled   쓰기 예약 여부
+     * @param writeLock   이 글의 DB 쓰기 구간 (쓰기 직전 세대 확인 ~ 커밋), discard 가 진행 중인 쓰기를 기다리는 데 씀
+     */
+    private record Slot(long generation, Long userId, PostUpdateRequest latest, long lastWriteAt, boolean scheduled,
+                        ReentrantLock writeLock) {
+    }
+
+    // CommunityService 도 discard 를 부르므로 순환 → 지연 주입
+    public DraftAutosaver(@Lazy CommunityService communityService,
+                          PostRepository postRepository,
+                          @Value("${community.drafts.autosave-interval:10s}") Duration interval) {
+        this.communityService = communityService;
+        this.postRepository = postRepository;
+        this.intervalMillis = interval.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "draft-autosave");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 자동 저장 접수 (실제 쓰기는 나중에 할 수 있음)
+     * - 권한 확인은 이 글의 첫 접수 때만 DB 로, 이후 같은 유저면 메모리에서 통과
+     */
+    public void submit(Long postId, PostUpdateRequest dto, Long userId) {
+        Slot current = slots.get(postId);
+        if (current == null || !current.userId().equals(userId)) {
+            Long authorId = postRepository.findDraftAuthorId(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("임시저장 글만 자동 저장할 수 있습니다."));
+            if (!authorId.equals(userId)) {
+                throw new IllegalStateException("본인 글만 수정 가능합니다.");
+            }
+        }
+
+        slots.compute(postId, (id, cur) -> {
+            long generation = (cur == null) ? generations.incrementAndGet() : cur.generation();
+            long lastWriteAt = (cur == null) ? 0L : cur.lastWriteAt();
+            boolean scheduled = cur != null && cur.scheduled();
+            ReentrantLock writeLock = (cur == null) ? new ReentrantLock() : cur.writeLock();
+            if (!scheduled) {
+                long delay = Math.max(0L, lastWriteAt + intervalMillis - System.currentTimeMillis());
+                scheduler.schedule(() -> flush(id), delay, TimeUnit.MILLISECONDS);
+            }
+            return new Slot(generation, userId, dto, lastWriteAt, true, writeLock);
+        });
+    }
+
+    /**
+     * 대기 중인 자동 저장 버리기 (명시적 저장/게시/삭제 직전, 작성자 확인 뒤)
+     * - 이미 쓰는 중이면 그 쓰기가 끝날 때까지 기다림 (그 뒤의 쓰기는 세대 확인에서 버려짐)
+     */
+    public void discard(Long postId) {
+        Slot removed = slots.remove(postId);
+        if (removed != null) {
+            removed.writeLock().lock();
+            removed.writeLock().unlock();
+        }
+    }
+
+    private void flush(Long postId) {
+        Slot[] taken = new Slot[1];
+        slots.computeIfPresent(postId, (id, cur) -> {
+            taken[0] = cur;
+            return new Slot(cur.generation(), cur.userId(), null, System.currentTimeMillis(), false, cur.writeLock());
+        });
+        Slot slot = taken[0];
+        if (slot == null || slot.latest() == null) return;
+
+        write(postId, slot);
+        // 한동안 자동 저장이 없으면 상태 정리
+        scheduler.schedule(() -> evictIfIdle(postId), intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void write(Long postId, Slot slot) {
+        ReentrantLock writeLock = slot.writeLock();
+        writeLock.lock();
+        try {
+            // 꺼낸 뒤 discard 됐으면(슬롯이 없거나 세대가 다르면) 쓰지 않음
+            Slot current = slots.get(postId);
+            if (current == null || current.generation() != slot.generation()) return;
+            communityService.saveDraft(postId, slot.latest(), slot.userId());
+        } catch (RuntimeException e) {
+            log.warn("자동 저장 실패: postId={}", postId, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void evictIfIdle(Long postId) {
+        // 쓰는 중인 슬롯은 남김 (discard 가 그 잠금을 기다려야 하므로)
+        slots.computeIfPresent(postId, (id, cur) ->
+                (!cur.scheduled() && !cur.writeLock().isLocked()
+                        && System.currentTimeMillis() - cur.lastWriteAt() >= intervalMillis) ? null : cur);
+    }
+
+    @PreDestroy
+    void flushAll() {
+        scheduler.shutdownNow();
+        slots.forEach((postId, slot) -> {
+            if (slot.latest() != null) write(postId, slot);
+        });
+        slots.clear();
+    }
+
+    /** 쓰기 대기 중인 글 수 (운영 확인용) */
+    public long pendingCount() {
+        return slots.values().stream().filter(s -> s.latest() != null).count();
+    }
+}
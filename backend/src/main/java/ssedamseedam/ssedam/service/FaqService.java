@@ -2,6 +2,7 @@
 package ssedamseedam.ssedam.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,11 +10,10 @@ import ssedamseedam.ssedam.domain.*;
 import ssedamseedam.ssedam.dto.*;
 import ssedamseedam.ssedam.repository.*;
 
-import java.util.Locale;
-import java.util.Optional;
 import java.util.Map;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -34,53 +34,24 @@ public class FaqService {
         // null 안전
         if (cond == null) cond = new FaqSearchCondition();
 
-        // 페이지/사이즈 가드
-        int page = Optional.ofNullable(cond.getPage()).orElse(0);
-        int size = Optional.ofNullable(cond.getSize()).orElse(10);
-        if (page < 0) page = 0;
-        if (size <= 0) size = 10;
-        if (size > 200) size = 200; // 과도한 요청 방지
+        // 키워드/카테고리/wasteType/제외 목록 정규화 + 페이지/사이즈 가드
+        FaqSearchCondition.Normalized n = cond.normalize();
 
         Pageable pageable = PageRequest.of(
-                page,
-                size,
+                n.page(),
+                n.size(),
                 Sort.by(Sort.Direction.DESC, "likeCount", "createdAt")
         );
 
-        // 키워드 정규화 (소문자, 공백 트리밍)
-        String q = cond.getQ();
-        String qLower = (q == null || q.isBlank())
-                ? null
-                : q.trim().toLowerCase(Locale.ROOT);
-
-        // 카테고리 정규화
-        String category = cond.getCategory();
-        category = (category == null || category.isBlank()) ? null : category.trim();
-        
-        // wasteType 정규화
-        String wasteType = cond.getWasteType();
-        wasteType = (wasteType == null || wasteType.isBlank()) ? null : wasteType.trim();
-        
-        // excludeWasteTypes 정규화
-        List<String> excludeWasteTypes = cond.getExcludeWasteTypes();
-        if (excludeWasteTypes != null) {
-            excludeWasteTypes = excludeWasteTypes.stream()
-                .filter(type -> type != null && !type.isBlank())
-                .map(String::trim)
-                .toList();
-            if (excludeWasteTypes.isEmpty()) {
-                excludeWasteTypes = null;
-            }
-        }
-
-        return faqRepository.search(qLower, category, wasteType, excludeWasteTypes, pageable)
+        return faqRepository.search(n.q(), n.category(), n.wasteType(), n.excludeWasteTypes(), pageable)
                 .map(f -> new FaqSummaryResponse(
                         f.getId(),
                         f.getQuestion(),
                         f.getWasteType(),
                         f.getCategory(),
                         f.getLikeCount(),
-                        f.getDislikeCount()
+                        f.getDislikeCount(),
+                        f.getLastModifiedAt()
                 ));
     }
 
@@ -98,7 +69,8 @@ public class FaqService {
                 f.getCategory(),
                 f.getLikeCount(),
                 f.getDislikeCount(),
-                f.getCreatedAt()
+                f.getCreatedAt(),
+                f.getLastModifiedAt()
         );
     }
 
@@ -140,8 +112,7 @@ public class FaqService {
             
             processVote(faq, user, vote);
         } catch (Exception e) {
-            System.err.println("투표 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("FAQ 투표 처리 실패: faqId={}", faqId, e);
             throw e;
         }
     }
@@ -159,17 +130,22 @@ public class FaqService {
                         .build();
                 faqVoteRepository.save(newVote);
                 faq.setLikeCount(safeInc(faq.getLikeCount()));
-                System.out.println("LIKE 추가: FAQ ID=" + faq.getId() + ", 새 카운트=" + faq.getLikeCount());
+                log.atDebug().setMessage("FAQ 추천")
+                        .addKeyValue("faqId", faq.getId())
+                        .addKeyValue("likeCount", faq.getLikeCount())
+                        .log();
             } else {
                 // 기존 LIKE 투표 존재 - 취소
                 FaqVote existing = existingOpt.get();
                 faqVoteRepository.delete(existing);
                 faq.setLikeCount(safeDec(faq.getLikeCount()));
-                System.out.println("LIKE 취소: FAQ ID=" + faq.getId() + ", 새 카운트=" + faq.getLikeCount());
+                log.atDebug().setMessage("FAQ 추천 취소")
+                        .addKeyValue("faqId", faq.getId())
+                        .addKeyValue("likeCount", faq.getLikeCount())
+                        .log();
             }
         } catch (Exception e) {
-            System.err.println("processVote 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("processVote 실패: faqId={}", faq.getId(), e);
             throw e;
         }
     }
@@ -182,8 +158,6 @@ public class FaqService {
     @Transactional
     public Long submitFeedback(FaqFeedbackRequest req) {
         try {
-            System.out.println("피드백 서비스 시작: " + req.getContent());
-            
             if (req == null) {
                 throw new IllegalArgumentException("요청이 올바르지 않습니다.");
             }
@@ -191,12 +165,10 @@ public class FaqService {
             Faq faq = null;
             if (req.getFaqId() != null) {
                 faq = faqRepository.findById(req.getFaqId()).orElse(null);
-                System.out.println("FAQ 찾기 결과: " + (faq != null ? "found" : "not found"));
             }
 
             // 사용자 찾기
             User user = userRepository.findAll().stream().findFirst().orElse(null);
-            System.out.println("사용자 찾기 결과: " + (user != null ? "found" : "not found"));
             
             if (user == null) {
                 throw new IllegalArgumentException("사용자가 존재하지 않습니다.");
@@ -210,13 +182,11 @@ public class FaqService {
                     .detail(req.getContent())
                     .build();
 
-            System.out.println("피드백 저장 시도...");
             faqFeedbackRepository.save(fb);
-            System.out.println("피드백 저장 성공: " + fb.getId());
+            log.debug("FAQ 피드백 저장: id={}", fb.getId());
             return fb.getId();
         } catch (Exception e) {
-            System.err.println("피드백 서비스 에러: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("FAQ 피드백 저장 실패", e);
             throw e;
         }
     }
@@ -264,24 +234,16 @@ public class FaqService {
      * 디버깅용: 모든 FAQ의 wasteType 값들 반환
      */
     public Map<String, Object> getAllWasteTypes() {
-        var allFaqs = faqRepository.findAll();
-        var wasteTypes = allFaqs.stream()
-                .map(Faq::getWasteType)
-                .distinct()
-                .sorted()
-                .toList();
-        
-        var categories = allFaqs.stream()
-                .map(Faq::getCategory)
-                .distinct()
-                .sorted()
-                .toList();
-                
+        // 전체 FAQ 를 읽지 않고 캐시되는 DISTINCT 쿼리로
+        var wasteTypes = faqRepository.findWasteTypes();
+        var categories = faqRepository.findCategories();
+        var sample = faqRepository.findAll(PageRequest.of(0, 3, Sort.by("id")));
+
         return Map.of(
             "wasteTypes", wasteTypes,
             "categories", categories,
-            "totalCount", allFaqs.size(),
-            "sampleFaqs", allFaqs.stream().limit(3).map(f -> Map.of(
+            "totalCount", sample.getTotalElements(),
+            "sampleFaqs", sample.stream().map(f -> Map.of(
                 "id", f.getId(),
                 "question", f.getQuestion(),
                 "wasteType", f.getWasteType(),
@@ -0,0 +1,229 @@
+package ssedamseedam.ssedam.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ssedamseedam.ssedam.datasource.PrimaryReads;
+import ssedamseedam.ssedam.domain.PostCategory;
+import ssedamseedam.ssedam.domain.PostStatus;
+import ssedamseedam.ssedam.dto.PostSummaryResponse;
+import ssedamseedam.ssedam.dto.PostSummaryRow;
+import ssedamseedam.ssedam.event.CommentCreatedEvent;
+import ssedamseedam.ssedam.event.PostLikeChangedEvent;
+import ssedamseedam.ssedam.event.PostSavedEvent;
+import ssedamseedam.ssedam.repository.PostRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커뮤니티 첫 페이지용 인메모리 피드 캐시
+ * - 전체 + PostCategory 별로 최신 게시글 N개 요약을 불변 스냅샷으로 보관 (읽기는 락 없음)
+ * - 작성/수정/삭제/좋아요/댓글 이벤트가 커밋된 뒤 스냅샷을 새로 만들어 교체
+ *   좋아요/댓글 수는 증감 대신 커밋된 행의 현재 값으로 덮어씀 (로딩과 겹치거나 중복 반영돼도 맞게 유지)
+ * - 스냅샷에는 사용자별 필드(liked/mine)가 없으므로 호출 측에서 요청마다 덮어써야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class HotFeedCache {
+
+    private static final String ALL = "ALL";
+    private static final Sort LATEST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final PostRepository postRepository;
+
+    @Value("${community.hot-feed.size:100}")
+    private int capacity;
+
+    private final ConcurrentMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /** 키별 변경 세대 - 로딩 중에 그 키에 이벤트가 반영되면 그보다 오래된 스냅샷은 넣지 않음 */
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /** 스냅샷으로 응답한 수 / DB 로 넘긴 수 */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** 최신순 items(최대 capacity 개) + 해당 키의 전체 게시글 수 */
+    private record Snapshot(List<PostSummaryResponse> items, long total) {
+
+        boolean covers(int to) {
+            return to <= items.size() || items.size() >= total;
+        }
+    }
+
+    /**
+     * 링 범위 안의 페이지면 공유 스냅샷으로 응답, 아니면 empty (DB 로 폴백)
+     */
+    public Optional<Page<PostSummaryResponse>> page(PostCategory category, int page, int size) {
+        // page * size 가 int 를 넘을 수 있어 long 으로 범위 확인
+        if (page < 0 || size <= 0 || (long) page * size + size > capacity) {
+            misses.increment();
+            return Optional.empty();
+        }
+        int from = page * size;
+        int to = from + size;
+
+        Snapshot snap = snapshots.get(key(category));
+        if (snap == null) {
+            misses.increment();
+            snap = load(category);
+        } else {
+            hits.increment();
+        }
+        if (!snap.covers(to)) {
+            return Optional.empty();
+        }
+
+        List<PostSummaryResponse> items = snap.items();
+        List<PostSummaryResponse> content = from >= items.size()
+                ? List.of()
+                : items.subList(from, Math.min(to, items.size()));
+        return Optional.of(new PageImpl<>(content, PageRequest.of(page, size, LATEST), snap.total()));
+    }
+
+    private Snapshot load(PostCategory category) {
+        AtomicLong generation = generation(key(category));
+        long gen = generation.get();
+        // 다음 무효화까지 들고 있으므로 복제본이 아니라 primary 에서
+        Page<PostSummaryRow> rows = PrimaryReads.call(() -> postRepository.findSummaries(
+                category, PostStatus.PUBLISHED, PageRequest.of(0, capacity, LATEST)));
+        Snapshot loaded = new Snapshot(
+                rows.getContent().stream().map(PostSummaryResponse::of).toList(),
+                rows.getTotalElements());
+
+        // 그 사이 변경 이벤트가 없었을 때만 반영
+        snapshots.compute(key(category), (k, cur) -> generation.get() == gen ? loaded : cur);
+        return loaded;
+    }
+
+    /**
+     * 작성/수정/삭제 반영
+     * - 새 글: 맨 앞에 추가
+     * - 게시 상태/카테고리 유지한 수정: 제자리 교체
+     * - 그 외(게시↔임시저장, 카테고리 이동): 해당 키만 무효화 후 다음 조회 때 다시 로딩
+     */
+    @TransactionalEventListener
+    public void onPostSaved(PostSavedEvent event) {
+        Optional<PostSummaryRow> row = postRepository.findPublishedSummary(event.postId());
+        PostCategory prevCategory = event.wasPublished() ? event.previousCategory() : null;
+        PostCategory newCategory = row.map(PostSummaryRow::getCategory).orElse(null);
+        bump(ALL);
+        if (prevCategory != null) bump(key(prevCategory));
+        if (newCategory != null) bump(key(newCategory));
+
+        if (event.isCreated()) {
+            row.map(PostSummaryResponse::of).ifPresent(summary -> {
+                prepend(ALL, summary);
+                prepend(key(newCategory), summary);
+            });
+            return;
+        }
+
+        if (event.wasPublished() && row.isPresent()) {
+            PostSummaryResponse summary = PostSummaryResponse.of(row.get());
+            replace(ALL, summary);
+            if (prevCategory == newCategory) {
+                replace(key(newCategory), summary);
+                return;
+            }
+            invalidate(key(prevCategory));
+            invalidate(key(newCategory));
+            return;
+        }
+
+        // 게시 여부가 바뀐 경우 (전체 수도 달라짐)
+        if (event.wasPublished() || row.isPresent()) {
+            invalidate(ALL);
+            if (prevCategory != null) invalidate(key(prevCategory));
+            if (newCategory != null) invalidate(key(newCategory));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        refreshCounts(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        refreshCounts(event.postId());
+    }
+
+    /**
+     * 좋아요/댓글 수 반영: 커밋된 행을 다시 읽어 그 글이 들어갈 수 있는 키(전체 + 카테고리)만 교체
+     * - 현재 값으로 덮어쓰므로 여러 번 반영돼도 같음, 세대도 그 두 키만 올림
+     */
+    private void refreshCounts(Long postId) {
+        postRepository.findPublishedSummary(postId).ifPresent(row -> {
+            PostSummaryResponse summary = PostSummaryResponse.of(row);
+            for (String key : List.of(ALL, key(row.getCategory()))) {
+                bump(key);
+                replace(key, summary);
+            }
+        });
+    }
+
+    private void prepend(String key, PostSummaryResponse summary) {
+        snapshots.computeIfPresent(key, (k, cur) -> {
+            List<PostSummaryResponse> items = new ArrayList<>(cur.items().size() + 1);
+            items.add(summary);
+            items.addAll(cur.items());
+            if (items.size() > capacity) {
+                items.remove(items.size() - 1);
+            }
+            return new Snapshot(Collections.unmodifiableList(items), cur.total() + 1);
+        });
+    }
+
+    private void replace(String key, PostSummaryResponse summary) {
+        snapshots.computeIfPresent(key, (k, cur) -> {
+            int idx = indexOf(cur.items(), summary.getId());
+            if (idx < 0) return cur;
+            List<PostSummaryResponse> items = new ArrayList<>(cur.items());
+            items.set(idx, summary);
+            return new Snapshot(Collections.unmodifiableList(items), cur.total());
+        });
+    }
+
+    private void invalidate(String key) {
+        snapshots.remove(key);
+    }
+
+    private AtomicLong generation(String key) {
+        return generations.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private void bump(String key) {
+        generation(key).incrementAndGet();
+    }
+
+    private static int indexOf(List<PostSummaryResponse> items, Long postId) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(postId)) return i;
+        }
+        return -1;
+    }
+
+    private static String key(PostCategory category) {
+        return category == null ? ALL : category.name();
+    }
+
+    /** 스냅샷 적중률 (재로딩/범위 밖 요청은 미스) */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+}
@@ -0,0 +1,221 @@
+package ssedamseedam.ssedam.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ssedamseedam.ssedam.datasource.PrimaryReads;
+import ssedamseedam.ssedam.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 아이디/닉네임 중복 확인용 Bloom 필터
+ * - "없음" 판정은 확실 → DB 조회 없이 사용 가능 응답
+ * - "있을 수도" 판정만 DB 로 확인 (오탐률은 auth.name-filter.fpp 로 설정)
+ * - 기동 시 전체 유저를 id 순으로 나눠 읽어 채우고, 가입 시 추가 (로딩 끝나기 전에는 전부 DB)
+ * - MySQL 기본 콜레이션(utf8mb4_0900_ai_ci)이 같게 보는 이름은 같은 값이 되도록 정규화 (normalize 참고)
+ *   (더 많이 접을수록 오탐만 늘고 "없음" 판정은 틀리지 않음)
+ * - 아이디/닉네임 삭제·변경 기능이 없어서 삭제 가능한 cuckoo 필터 대신 Bloom 필터
+ */
+@Component
+public class NameAvailabilityFilter {
+
+    private static final int LOAD_BATCH = 5000;
+
+    private final UserRepository userRepository;
+    private final BloomFilter usernames;
+    private final BloomFilter nicknames;
+
+    private volatile boolean ready;
+
+    public NameAvailabilityFilter(UserRepository userRepository,
+                                  @Value("${auth.name-filter.expected-names:100000}") int expectedNames,
+                                  @Value("${auth.name-filter.fpp:0.01}") double fpp) {
+        this.userRepository = userRepository;
+        this.usernames = new BloomFilter(expectedNames, fpp);
+        this.nicknames = new BloomFilter(expectedNames, fpp);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        Thread t = new Thread(this::load, "name-filter-load");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void load() {
+        long lastId = 0L;
+        while (true) {
+            long after = lastId;
+            // 복제본에서 읽으면 지연 구간에 가입한 유저가 필터에서 영영 빠짐 → primary
+            List<Object[]> batch = PrimaryReads.call(() -> userRepository.findNamesAfter(after, PageRequest.of(0, LOAD_BATCH)));
+            if (batch.isEmpty()) break;
+            for (Object[] row : batch) {
+                usernames.put(normalize((String) row[1]));
+                nicknames.put(normalize((String) row[2]));
+            }
+            lastId = (Long) batch.get(batch.size() - 1)[0];
+        }
+        ready = true;
+    }
+
+    /** true 면 확실히 없음 (DB 확인 불필요) */
+    public boolean usernameDefinitelyAbsent(String username) {
+        return ready && !usernames.mightContain(normalize(username));
+    }
+
+    public boolean nicknameDefinitelyAbsent(String nickname) {
+        return ready && !nicknames.mightContain(normalize(nickname));
+    }
+
+    /** DB 확인 결과 기록 (필터가 "있을 수도" 했는데 실제로 없었으면 오탐) */
+    public void recordUsernameCheck(boolean existsInDb) {
+        usernames.recordCheck(existsInDb);
+    }
+
+    public void recordNicknameCheck(boolean existsInDb) {
+        nicknames.recordCheck(existsInDb);
+    }
+
+    /** 가입 저장 후 호출 (로딩 중이어도 넣어 둠 - 로딩이 같은 값을 또 넣어도 무해) */
+    public void add(String username, String nickname) {
+        usernames.put(normalize(username));
+        nicknames.put(normalize(nickname));
+    }
+
+    /**
+     * 콜레이션 비교 키 근사
+     * - NFKD 후 결합 문자(악센트) 제거, 서식 문자(폭 없는 공백 등, 콜레이션이 무시) 제거, 소문자
+     * - 분해로 안 풀리는 확장 문자는 직접 접음: ß→ss, æ→ae, œ→oe, ø→o, đ/ð→d, ł→l, ı→i, þ→th
+     *   (콜레이션보다 더 접는 것은 오탐만 늘어서 괜찮음)
+     * - 완전히 같지는 않음: 콜레이션이 같게 보는데 여기서 못 접는 문자가 있으면 "없음"이 틀릴 수 있음
+     *   → 그래도 가입 저장 시 username/nickname 유니크 제약에서 걸림
+     */
+    static String normalize(String s) {
+        if (s == null) return "";
+        String decomposed = Normalizer.normalize(s.strip(), Normalizer.Form.NFKD);
+        String folded = decomposed.replaceAll("[\\p{M}\\p{Cf}]", "").toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            switch (c) {
+                case 'ß' -> sb.append("ss");
+                case 'æ' -> sb.append("ae");
+                case 'œ' -> sb.append("oe");
+                case 'ø' -> sb.append('o');
+                case 'đ', 'ð' -> sb.append('d');
+                case 'ł' -> sb.append('l');
+                case 'ı' -> sb.append('i');
+                case 'þ' -> sb.append("th");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 현재 필터 상태 (운영 확인용) */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("username", usernames.stats());
+        stats.put("nickname", nicknames.stats());
+        return stats;
+    }
+
+    /**
+     * 락 없는 Bloom 필터 (비트 배열은 AtomicLongArray, 추가는 CAS OR)
+     * - 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n ln 2
+     * - 해시는 64비트 하나에서 두 값을 뽑아 이중 해싱 (h1 + i * h2)
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final double targetFpp;
+
+        private final AtomicLong insertions = new AtomicLong();
+        private final AtomicLong dbChecks = new AtomicLong();
+        private final AtomicLong falsePositives = new AtomicLong();
+
+        BloomFilter(int expected, double fpp) {
+            int n = Math.max(expected, 1);
+            double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+            long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.max(1, (m + 63) / 64));
+            this.bitCount = (long) words.length() * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            this.targetFpp = p;
+        }
+
+        void put(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int idx = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words.get(idx) & mask) == 0) {
+                    words.getAndAccumulate(idx, mask, (cur, m) -> cur | m);
+                }
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        void recordCheck(boolean existsInDb) {
+            dbChecks.incrementAndGet();
+            if (!existsInDb) falsePositives.incrementAndGet();
+        }
+
+        /** FNV-1a 64 + murmur3 fmix (짧은 문자열에도 비트가 고르게 퍼지도록) */
+        private static long hash64(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= (b & 0xff);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        Map<String, Object> stats() {
+            long n = insertions.get();
+            long checks = dbChecks.get();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("bits", bitCount);
+            stats.put("hashes", hashCount);
+            stats.put("insertions", n);
+            stats.put("targetFpp", targetFpp);
+            // 현재 채워진 정도 기준 이론 오탐률 (1 - e^(-kn/m))^k
+            stats.put("expectedFpp", Math.pow(1 - Math.exp(-hashCount * (double) n / bitCount), hashCount));
+            stats.put("dbChecks", checks);
+            stats.put("falsePositives", falsePositives.get());
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ssedamseedam.ssedam.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 작업 스레드 풀
+ * - bcrypt 는 CPU 를 오래 쓰므로 톰캣 요청 스레드가 아니라 CPU 코어 수만큼의 전용 스레드에서 계산
+ * - 대기열이 꽉 차면 기다리지 않고 바로 PasswordHashingBusyException (→ 503 + Retry-After)
+ * - 호출 측은 CompletableFuture 를 그대로 컨트롤러에서 반환 → 기다리는 동안 요청 스레드를 돌려줌
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${auth.password.hash-threads:0}") int threads,
+                          @Value("${auth.password.hash-queue:64}") int queueSize) {
+        this.passwordEncoder = passwordEncoder;
+        int n = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** 저장된 해시의 비용 파라미터가 현재 설정보다 낮으면 true (로그인 성공 시 재해시) */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    /** 대기 중 + 계산 중인 작업 수 (운영 확인용) */
+    public int inFlight() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+}
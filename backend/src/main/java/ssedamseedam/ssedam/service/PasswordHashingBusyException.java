@@ -0,0 +1,11 @@
+package ssedamseedam.ssedam.service;
+
+/**
+ * 비밀번호 해시 대기열이 가득 참 (잠시 후 재시도)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
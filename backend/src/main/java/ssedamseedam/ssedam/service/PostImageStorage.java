@@ -0,0 +1,319 @@
+package ssedamseedam.ssedam.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import ssedamseedam.ssedam.dto.PostImageUploadResponse;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 이미지 로컬 저장소
+ * - 원본은 SHA-256 해시를 파일명으로 저장 → 같은 사진은 한 번만 저장 (중복 제거)
+ * - 썸네일/중간 크기 렌디션은 요청 스레드가 아닌 별도 작업 스레드에서 생성
+ * - URL 이 내용 해시라서 내용이 바뀌지 않음 → 서빙 시 immutable 캐시 가능
+ * - 형식은 클라이언트 Content-Type 이 아니라 파일 앞부분(매직 바이트)으로 판별
+ * - 픽셀 수가 max-pixels 를 넘는 이미지는 거절 (디코딩 시 메모리 폭탄 방지, 헤더만 읽어 확인)
+ *
+ * 디렉터리 구조: {root}/{variant}/{hash 앞 2글자}/{hash}.{ext}
+ */
+@Slf4j
+@Service
+public class PostImageStorage {
+
+    public static final String URL_PREFIX = "/api/community/images/";
+
+    /** 렌디션 종류 (원본은 확장자 유지, 나머지는 jpg) */
+    public enum Variant {
+        ORIG(0), THUMB(320), MEDIUM(1080);
+
+        final int maxEdge;
+
+        Variant(int maxEdge) {
+            this.maxEdge = maxEdge;
+        }
+
+        String dir() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Optional<Variant> from(String s) {
+            for (Variant v : values()) {
+                if (v.dir().equals(s)) return Optional.of(v);
+            }
+            return Optional.empty();
+        }
+    }
+
+    /** 경로 조작 방지: 해시 64자 + 허용 확장자만 */
+    private static final Pattern FILENAME = Pattern.compile("^[0-9a-f]{64}\\.(jpg|png|gif|webp)$");
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final Path root;
+    private final long maxPixels;
+    private final ThreadPoolExecutor renditionExecutor;
+
+    public PostImageStorage(@Value("${community.images.root:./uploads/post-images}") String root,
+                            @Value("${community.images.rendition-threads:2}") int threads,
+                            @Value("${community.images.rendition-queue:200}") int queueSize,
+                            @Value("${community.images.max-pixels:40000000}") long maxPixels) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.maxPixels = maxPixels;
+        Files.createDirectories(this.root.resolve("tmp"));
+
+        // 큐가 꽉 차면 버림 → 렌디션이 없으면 서빙 시 원본으로 대체하고 그때 다시 생성 요청
+        this.renditionExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "post-image-rendition");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renditionExecutor.shutdown();
+    }
+
+    /**
+     * 업로드 저장 (해시 계산하면서 임시 파일로 받고, 같은 해시가 이미 있으면 버림)
+     */
+    public PostImageUploadResponse store(MultipartFile image) {
+        if (image.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+        }
+
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(root.resolve("tmp"), "upload-", ".part");
+            String hash;
+            try (DigestInputStream in = new DigestInputStream(image.getInputStream(), sha256())) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+                hash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            }
+
+            String ext = detectExtension(tmp)
+                    .orElseThrow(() -> new IllegalArgumentException("jpg, png, gif, webp 이미지만 업로드할 수 있습니다."));
+            if (!withinPixelLimit(tmp)) {
+                throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+            }
+
+            String filename = hash + "." + ext;
+            Path target = path(Variant.ORIG, filename);
+            Files.createDirectories(target.getParent());
+            // ATOMIC_MOVE 는 rename 이라 대상이 있어도 덮어씀 → 먼저 확인
+            // (동시에 같은 사진이 올라오면 둘 다 옮길 수 있지만 내용이 같으므로 무해)
+            if (Files.exists(target)) {
+                Files.delete(tmp);   // 이미 있는 사진 (중복 업로드)
+            } else {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                requestRenditions(filename);
+            }
+
+            return new PostImageUploadResponse(
+                    url(Variant.ORIG, filename),
+                    url(Variant.THUMB, filename),
+                    url(Variant.MEDIUM, filename));
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 저장에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    /** 파일 앞부분으로 형식 판별 (jpg / png / gif / webp) */
+    static Optional<String> detectExtension(Path file) throws IOException {
+        byte[] head = new byte[12];
+        int n;
+        try (InputStream in = Files.newInputStream(file)) {
+            n = in.readNBytes(head, 0, head.length);
+        }
+        if (n >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return Optional.of("jpg");
+        }
+        if (n >= 8 && Arrays.equals(head, 0, 8, PNG_SIGNATURE, 0, 8)) {
+            return Optional.of("png");
+        }
+        String ascii = new String(head, 0, n, StandardCharsets.ISO_8859_1);
+        if (ascii.startsWith("GIF87a") || ascii.startsWith("GIF89a")) {
+            return Optional.of("gif");
+        }
+        if (n == 12 && ascii.startsWith("RIFF") && ascii.startsWith("WEBP", 8)) {
+            return Optional.of("webp");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 헤더만 읽어 가로×세로 확인 (픽셀 데이터는 디코딩하지 않음)
+     * - ImageIO 가 모르는 형식(webp)은 렌디션을 만들지 않으므로 통과
+     */
+    private boolean withinPixelLimit(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) return true;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return true;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0) <= maxPixels;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 서빙할 파일 찾기
+     * - 렌디션이 아직 없으면 생성을 다시 요청하고 원본 경로를 돌려줌 (fallback = true)
+     */
+    public Optional<Located> locate(Variant variant, String filename) {
+        if (!FILENAME.matcher(filename).matches()) {
+            return Optional.empty();
+        }
+        Path original = path(Variant.ORIG, filename);
+        if (!Files.isRegularFile(original)) {
+            return Optional.empty();
+        }
+        if (variant == Variant.ORIG) {
+            return Optional.of(new Located(original, false));
+        }
+
+        Path rendition = path(variant, renditionName(filename));
+        if (Files.isRegularFile(rendition)) {
+            return Optional.of(new Located(rendition, false));
+        }
+        requestRenditions(filename);
+        return Optional.of(new Located(original, true));
+    }
+
+    public record Located(Path path, boolean fallback) {
+    }
+
+    private void requestRenditions(String filename) {
+        try {
+            renditionExecutor.execute(() -> {
+                createRendition(Variant.THUMB, filename);
+                createRendition(Variant.MEDIUM, filename);
+            });
+        } catch (RejectedExecutionException ignored) {
+            // 큐가 가득 참 → 다음 조회 때 다시 요청
+        }
+    }
+
+    private void createRendition(Variant variant, String filename) {
+        Path target = path(variant, renditionName(filename));
+        if (Files.exists(target)) return;
+        try {
+            BufferedImage src = readBounded(path(Variant.ORIG, filename));
+            if (src == null) return;   // ImageIO 가 못 읽는 형식(webp 등)이나 너무 큰 이미지는 원본으로 서빙
+
+            double scale = Math.min(1.0, (double) variant.maxEdge / Math.max(src.getWidth(), src.getHeight()));
+            int w = Math.max(1, (int) Math.round(src.getWidth() * scale));
+            int h = Math.max(1, (int) Math.round(src.getHeight() * scale));
+
+            BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = out.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.setColor(Color.WHITE);   // 투명 PNG → 흰 배경
+                g.fillRect(0, 0, w, h);
+                g.drawImage(src, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(root.resolve("tmp"), "rendition-", ".jpg");
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                ImageIO.write(out, "jpg", os);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("렌디션 생성 실패: file={} variant={}", filename, variant, e);
+        }
+    }
+
+    /** 크기를 먼저 확인하고 디코딩 (업로드 때 확인했더라도 기존 파일/설정 변경 대비) */
+    private BufferedImage readBounded(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.warn("렌디션 생략(해상도 초과): file={}", file.getFileName());
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Path path(Variant variant, String filename) {
+        return root.resolve(variant.dir()).resolve(filename.substring(0, 2)).resolve(filename);
+    }
+
+    private static String renditionName(String filename) {
+        return filename.substring(0, filename.indexOf('.')) + ".jpg";
+    }
+
+    /** 렌디션 URL 도 원본 파일명을 그대로 씀 (locate 에서 .jpg 로 매핑) */
+    private static String url(Variant variant, String filename) {
+        return URL_PREFIX + variant.dir() + "/" + filename;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package ssedamseedam.ssedam.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ssedamseedam.ssedam.domain.PostStatus;
+import ssedamseedam.ssedam.event.CommentCreatedEvent;
+import ssedamseedam.ssedam.event.PostLikeChangedEvent;
+import ssedamseedam.ssedam.repository.CommentRepository;
+import ssedamseedam.ssedam.repository.PostRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 상세 화면 실시간 스트림 (SSE)
+ * - 이벤트: comment(새 댓글), like(게시글 좋아요 수)
+ * - 구독자마다 크기 제한 버퍼, 꽉 차면(느린 클라이언트) 연결을 끊음 → 재접속 후 상세 API 로 다시 맞춤
+ * - 전송은 소수의 전송 스레드가 버퍼를 비우는 방식 (서블릿 비동기라 대기 중인 연결은 스레드를 잡지 않음)
+ * - 구독자가 없는 글의 이벤트는 DB 조회 없이 버림
+ * - 게시 상태 글만 구독 가능, 클라이언트(유저/IP)별 동시 연결 수 제한
+ * - 상한 초과는 Retry-After 를 붙인 429(클라이언트별) / 503(전체)
+ */
+@Component
+public class PostLiveStream {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int maxPerClient;
+
+    /** postId → 구독자 */
+    private final ConcurrentMap<Long, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    /** 클라이언트 키 → 열린 연결 수 (0 이 되면 제거) */
+    private final ConcurrentMap<String, Integer> perClient = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+
+    public PostLiveStream(PostRepository postRepository,
+                          CommentRepository commentRepository,
+                          @Value("${community.live.timeout:30m}") Duration timeout,
+                          @Value("${community.live.buffer-size:32}") int bufferSize,
+                          @Value("${community.live.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${community.live.max-per-client:5}") int maxPerClient,
+                          @Value("${community.live.sender-threads:2}") int senderThreads) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPerClient = maxPerClient;
+        this.sender = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "post-live-sender");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        topics.values().forEach(subs -> subs.forEach(s -> s.emitter.complete()));
+    }
+
+    /** 새 댓글 이벤트 데이터는 CommentRow, 좋아요 이벤트 데이터는 이 레코드 */
+    public record LikeCount(Long postId, int likeCount) {
+    }
+
+    private final class Subscriber {
+        final Long postId;
+        final String clientKey;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long postId, String clientKey, SseEmitter emitter) {
+            this.postId = postId;
+            this.clientKey = clientKey;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (closed.get()) return;
+            if (!buffer.offer(event)) {
+                // 느린 구독자: 밀린 이벤트를 쌓아두지 않고 끊음
+                emitter.complete();
+                remove(this);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /** 한 구독자의 버퍼는 한 번에 한 스레드만 비움 */
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 연결
+                remove(this);
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 사이 새로 들어온 이벤트
+            if (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * 구독 시작
+     * @param clientKey 클라이언트 식별 (로그인 유저면 u{id}, 아니면 ip{주소})
+     * @throws ResponseStatusException 없는/비공개 글 404, 클라이언트별 상한 429, 전체 상한 503
+     */
+    public SseEmitter subscribe(Long postId, String clientKey) {
+        if (!postRepository.existsByIdAndStatus(postId, PostStatus.PUBLISHED)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글이 없습니다.");
+        }
+
+        boolean[] accepted = {false};
+        perClient.compute(clientKey, (k, n) -> {
+            int cur = (n == null) ? 0 : n;
+            if (cur >= maxPerClient) return n;
+            accepted[0] = true;
+            return cur + 1;
+        });
+        if (!accepted[0]) {
+            throw retryLater(HttpStatus.TOO_MANY_REQUESTS, "동시에 열 수 있는 실시간 연결 수를 넘었습니다.");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            releaseClient(clientKey);
+            throw retryLater(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(postId, clientKey, emitter);
+        topics.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(sub);
+
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        sub.offer(SseEmitter.event().comment("connected").reconnectTime(3000).build());
+        return emitter;
+    }
+
+    private void remove(Subscriber sub) {
+        if (!sub.closed.compareAndSet(false, true)) return;
+        subscriberCount.decrementAndGet();
+        releaseClient(sub.clientKey);
+        sub.buffer.clear();
+        topics.computeIfPresent(sub.postId, (id, subs) -> {
+            subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+
+    private void releaseClient(String clientKey) {
+        perClient.computeIfPresent(clientKey, (k, n) -> n <= 1 ? null : n - 1);
+    }
+
+    /** Retry-After 를 붙인 거절 (EventSource 가 아닌 클라이언트도 재시도 시점을 알 수 있게) */
+    private static ResponseStatusException retryLater(HttpStatus status, String reason) {
+        return new ResponseStatusException(status, reason) {
+            @Override
+            public HttpHeaders getHeaders() {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, "5");
+                return headers;
+            }
+        };
+    }
+
+    /** 이벤트는 한 번만 직렬화 준비(build)해서 모든 구독자가 공유 */
+    private void publish(Long postId, SseEmitter.SseEventBuilder event) {
+        Set<Subscriber> subs = topics.get(postId);
+        if (subs == null) return;
+        Set<DataWithMediaType> built = event.build();
+        for (Subscriber sub : subs) {
+            sub.offer(built);
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 라인 전송
+     */
+    @Scheduled(fixedDelayString = "${community.live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (topics.isEmpty()) return;
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        topics.values().forEach(subs -> subs.forEach(sub -> sub.offer(ping)));
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        if (!topics.containsKey(event.postId())) return;
+        // 구독자 수와 무관하게 이벤트당 한 번만 조회
+        commentRepository.findRowById(event.commentId()).ifPresent(row ->
+                publish(event.postId(), SseEmitter.event()
+                        .name("comment")
+                        .id(String.valueOf(row.getId()))
+                        .data(row)));
+    }
+
+    @TransactionalEventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        if (!topics.containsKey(event.postId())) return;
+        // 증감 대신 현재 값을 보내서 유실/중복에도 화면이 맞게 유지
+        postRepository.findLikeCountById(event.postId()).ifPresent(count ->
+                publish(event.postId(), SseEmitter.event()
+                        .name("like")
+                        .data(new LikeCount(event.postId(), count))));
+    }
+
+    /** 현재 구독자 수 (운영 확인용) */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+}
@@ -0,0 +1,361 @@
+package ssedamseedam.ssedam.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ssedamseedam.ssedam.datasource.PrimaryReads;
+import ssedamseedam.ssedam.domain.Post;
+import ssedamseedam.ssedam.domain.PostCategory;
+import ssedamseedam.ssedam.domain.PostStatus;
+import ssedamseedam.ssedam.event.PostSavedEvent;
+import ssedamseedam.ssedam.repository.PostRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 커뮤니티 게시글 전문 검색용 인메모리 역색인
+ * - 토큰: 한글/한자 등은 음절 2-gram, 영문/숫자는 소문자 단어 단위
+ * - 랭킹: BM25 (k1 = 1.2, b = 0.75), 제목 토큰은 2번 넣어서 가중치
+ * - 카테고리 필터: 카테고리별 BitSet 으로 후보 거르기
+ * - 게시글 작성/수정/삭제 이벤트(커밋 후)로 증분 갱신, 수정/삭제는 묘비(tombstone) 처리 후 일정 비율 넘으면 압축
+ * - 지연 상한: 질의 토큰 수 제한 + 상위 K 힙 (전체 정렬 없음)
+ * - 기동 시 구축 중에 이벤트로 바뀐 글은 구축 스캔이 덮어쓰지 않음 (이벤트 쪽이 더 최신)
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_QUERY_TOKENS = 16;
+    private static final int LOAD_BATCH = 1000;
+
+    private final PostRepository postRepository;
+    private final double compactRatio;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ---- 아래 필드는 lock 으로 보호 ----
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+    private long[] postIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;                       // 발급한 내부 문서 번호 수 (죽은 것 포함)
+    private final BitSet alive = new BitSet();
+    private final Map<PostCategory, BitSet> byCategory = new EnumMap<>(PostCategory.class);
+    private int liveDocs;
+    private long liveLengthSum;
+
+    private volatile boolean ready;
+
+    /** 구축 중 이벤트로 색인/삭제된 postId (구축 스캔은 이 글들을 건너뜀) */
+    private final Set<Long> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${community.search.compact-ratio:0.3}") double compactRatio) {
+        this.postRepository = postRepository;
+        this.compactRatio = compactRatio;
+    }
+
+    /** 한 단어의 문서 목록 (내부 문서 번호, 단어 빈도) */
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] tfs = new int[4];
+        int size;
+
+        void add(int doc, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+        }
+    }
+
+    public record Hit(Long postId, double score) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기동 시 게시된 글 전체를 id 순으로 나눠 읽어 색인 (요청 처리를 막지 않도록 별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread t = new Thread(this::build, "post-search-index-build");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void build() {
+        long lastId = 0L;
+        while (true) {
+            long after = lastId;
+            List<Post> batch = PrimaryReads.call(() -> postRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    PostStatus.PUBLISHED, after, PageRequest.of(0, LOAD_BATCH)));
+            if (batch.isEmpty()) break;
+            for (Post p : batch) {
+                index(p.getId(), p.getCategory(), p.getTitle(), p.getContent(), true);
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        ready = true;
+        touchedDuringBuild.clear();
+    }
+
+    @TransactionalEventListener
+    public void onPostSaved(PostSavedEvent event) {
+        if (!ready) {
+            touchedDuringBuild.add(event.postId());
+        }
+        postRepository.findById(event.postId()).ifPresentOrElse(p -> {
+            if (p.getStatus() == PostStatus.PUBLISHED) {
+                upsert(p.getId(), p.getCategory(), p.getTitle(), p.getContent());
+            } else {
+                remove(p.getId());
+            }
+        }, () -> remove(event.postId()));   // 삭제된 글
+    }
+
+    public void upsert(Long postId, PostCategory category, String title, String content) {
+        index(postId, category, title, content, false);
+    }
+
+    /**
+     * @param fromBuild 구축 스캔에서 온 색인이면 true → 그사이 이벤트로 바뀐 글은 건너뜀 (확인은 쓰기 락 안에서)
+     */
+    private void index(Long postId, PostCategory category, String title, String content, boolean fromBuild) {
+        Map<String, Integer> tf = new HashMap<>();
+        int length = 0;
+        for (String token : tokenize(title)) {
+            tf.merge(token, 2, Integer::sum);   // 제목 가중치
+            length += 2;
+        }
+        for (String token : tokenize(content)) {
+            tf.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (fromBuild && touchedDuringBuild.contains(postId)) return;
+            removeLocked(postId);
+
+            int doc = docCount++;
+            if (doc == postIds.length) {
+                postIds = Arrays.copyOf(postIds, doc * 2);
+                docLengths = Arrays.copyOf(docLengths, doc * 2);
+            }
+            postIds[doc] = postId;
+            docLengths[doc] = length;
+            alive.set(doc);
+            if (category != null) {
+                byCategory.computeIfAbsent(category, c -> new BitSet()).set(doc);
+            }
+            docByPostId.put(postId, doc);
+            liveDocs++;
+            liveLengthSum += length;
+
+            tf.forEach((term, count) -> postings.computeIfAbsent(term, t -> new Postings()).add(doc, count));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long postId) {
+        Integer doc = docByPostId.remove(postId);
+        if (doc == null) return;
+        alive.clear(doc);
+        liveDocs--;
+        liveLengthSum -= docLengths[doc];
+
+        int dead = docCount - liveDocs;
+        if (docCount > 1024 && dead > docCount * compactRatio) {
+            compactLocked();
+        }
+    }
+
+    /** 묘비를 걷어내고 내부 문서 번호를 앞으로 당김 */
+    private void compactLocked() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (alive.get(doc)) {
+                remap[doc] = next;
+                postIds[next] = postIds[doc];
+                docLengths[next] = docLengths[doc];
+                next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+
+        var it = postings.values().iterator();
+        while (it.hasNext()) {
+            Postings p = it.next();
+            int n = 0;
+            for (int i = 0; i < p.size; i++) {
+                int mapped = remap[p.docs[i]];
+                if (mapped >= 0) {
+                    p.docs[n] = mapped;
+                    p.tfs[n] = p.tfs[i];
+                    n++;
+                }
+            }
+            p.size = n;
+            if (n == 0) it.remove();
+        }
+
+        for (BitSet bits : byCategory.values()) {
+            BitSet moved = new BitSet(next);
+            for (int doc = bits.nextSetBit(0); doc >= 0; doc = bits.nextSetBit(doc + 1)) {
+                if (doc < docCount && remap[doc] >= 0) moved.set(remap[doc]);
+            }
+            bits.clear();
+            bits.or(moved);
+        }
+        docByPostId.replaceAll((postId, doc) -> remap[doc]);
+        alive.clear();
+        alive.set(0, next);
+        docCount = next;
+    }
+
+    /**
+     * BM25 상위 limit 건 (category 가 null 이면 전체)
+     */
+    public List<Hit> search(String query, PostCategory category, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().limit(MAX_QUERY_TOKENS).toList();
+        if (terms.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) return List.of();
+            BitSet filter = (category == null) ? alive : byCategory.get(category);
+            if (filter == null) return List.of();
+
+            double avgLength = (double) liveLengthSum / liveDocs;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Postings p = postings.get(term);
+                if (p == null) continue;
+                double idf = Math.log(1 + (liveDocs - p.size + 0.5) / (p.size + 0.5));
+                for (int i = 0; i < p.size; i++) {
+                    int doc = p.docs[i];
+                    if (!alive.get(doc) || !filter.get(doc)) continue;
+                    int tf = p.tfs[i];
+                    double norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                    scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            PriorityQueue<Map.Entry<Integer, Double>> top =
+                    new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+            for (Map.Entry<Integer, Double> e : scores.entrySet()) {
+                top.add(e);
+                if (top.size() > limit) top.poll();
+            }
+
+            List<Hit> hits = new ArrayList<>(top.size());
+            for (Map.Entry<Integer, Double> e : top) {
+                hits.add(new Hit(postIds[e.getKey()], e.getValue()));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰화
+     * - 한글/한자/가나 연속 구간: 음절 2-gram (한 글자짜리 구간은 그대로)
+     * - 영문/숫자 연속 구간: 소문자 단어
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) return tokens;
+
+        StringBuilder run = new StringBuilder();
+        boolean cjkRun = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            boolean cjk = isCjk(cp);
+            boolean word = cjk || Character.isLetterOrDigit(cp);
+            if (!word || (run.length() > 0 && cjk != cjkRun)) {
+                flush(run, cjkRun, tokens);
+            }
+            if (word) {
+                cjkRun = cjk;
+                run.appendCodePoint(Character.toLowerCase(cp));
+            }
+        }
+        flush(run, cjkRun, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean cjk, List<String> tokens) {
+        if (run.length() == 0) return;
+        String s = run.toString();
+        run.setLength(0);
+        if (!cjk || s.codePointCount(0, s.length()) == 1) {
+            tokens.add(s);
+            return;
+        }
+        int[] cps = s.codePoints().toArray();
+        for (int i = 0; i + 1 < cps.length; i++) {
+            tokens.add(new String(cps, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    /** 현재 색인 상태 (운영 확인용) */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("liveDocs", liveDocs);
+            stats.put("deadDocs", docCount - liveDocs);
+            stats.put("terms", postings.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
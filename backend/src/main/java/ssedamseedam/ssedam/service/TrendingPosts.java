@@ -0,0 +1,162 @@
+package ssedamseedam.ssedam.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ssedamseedam.ssedam.datasource.PrimaryReads;
+import ssedamseedam.ssedam.domain.PostCategory;
+import ssedamseedam.ssedam.dto.PostSummaryResponse;
+import ssedamseedam.ssedam.event.CommentCreatedEvent;
+import ssedamseedam.ssedam.event.PostLikeChangedEvent;
+import ssedamseedam.ssedam.event.PostSavedEvent;
+import ssedamseedam.ssedam.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인기글(트렌딩) 랭킹
+ * - 후보: 최근 window 기간 안에 게시된 글만 메모리에 보관 (좋아요/댓글 이벤트로 카운트 증분 갱신)
+ * - 점수: Hacker News 식 중력 공식  (좋아요 + 댓글 * commentWeight) / (경과시간h + 2)^gravity
+ * - 주기적으로 후보만 다시 점수 매겨 전체/카테고리별 상위 K 개를 고정 크기 힙으로 뽑아 스냅샷 교체
+ * - 조회는 스냅샷을 그대로 반환 (DB 조회 없음)
+ */
+@Component
+public class TrendingPosts {
+
+    private static final String ALL = "ALL";
+
+    private final PostRepository postRepository;
+    private final int topK;
+    private final Duration window;
+    private final double gravity;
+    private final double commentWeight;
+
+    /** postId → 최신 요약 (카운트 포함) */
+    private final ConcurrentMap<Long, PostSummaryResponse> candidates = new ConcurrentHashMap<>();
+
+    /** 키(ALL / 카테고리명) → 점수순 상위 K */
+    private volatile Map<String, List<PostSummaryResponse>> ranking = Map.of();
+
+    public TrendingPosts(PostRepository postRepository,
+                         @Value("${community.trending.top-k:50}") int topK,
+                         @Value("${community.trending.window:7d}") Duration window,
+                         @Value("${community.trending.gravity:1.8}") double gravity,
+                         @Value("${community.trending.comment-weight:2.0}") double commentWeight) {
+        this.postRepository = postRepository;
+        this.topK = topK;
+        this.window = window;
+        this.gravity = gravity;
+        this.commentWeight = commentWeight;
+    }
+
+    /** 상위 size 개 (category 가 null 이면 전체) */
+    public List<PostSummaryResponse> top(PostCategory category, int size) {
+        List<PostSummaryResponse> list = ranking.getOrDefault(key(category), List.of());
+        return list.subList(0, Math.min(Math.max(size, 0), list.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCandidates() {
+        PrimaryReads.call(() -> postRepository.findPublishedSummariesSince(LocalDateTime.now().minus(window)))
+                .forEach(r -> candidates.put(r.getId(), PostSummaryResponse.of(r)));
+        refresh();
+    }
+
+    /**
+     * 후보만 다시 점수 매기기 (시간이 흐르면 점수가 떨어지므로 주기적으로)
+     * - 주기 실행과 삭제 이벤트의 즉시 실행이 겹칠 수 있어 직렬화
+     *   (안 그러면 삭제 전 후보로 만든 랭킹이 나중에 대입돼 삭제된 글이 다음 주기까지 남음)
+     */
+    @Scheduled(fixedDelayString = "${community.trending.refresh-ms:60000}",
+            initialDelayString = "${community.trending.refresh-ms:60000}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = now.minus(window);
+        candidates.values().removeIf(p -> p.getCreatedAt() == null || p.getCreatedAt().isBefore(oldest));
+
+        Map<String, PriorityQueue<Scored>> heaps = new HashMap<>();
+        for (PostSummaryResponse p : candidates.values()) {
+            Scored scored = new Scored(p, score(p, now));
+            offer(heaps.computeIfAbsent(ALL, k -> newHeap()), scored);
+            offer(heaps.computeIfAbsent(p.getCategory(), k -> newHeap()), scored);
+        }
+
+        Map<String, List<PostSummaryResponse>> next = new HashMap<>();
+        heaps.forEach((key, heap) -> {
+            List<Scored> sorted = new ArrayList<>(heap);
+            sorted.sort(Comparator.comparingDouble(Scored::score).reversed());
+            next.put(key, sorted.stream().map(Scored::post).toList());
+        });
+        ranking = Map.copyOf(next);
+    }
+
+    double score(PostSummaryResponse p, LocalDateTime now) {
+        double points = p.getLikeCount() + p.getCommentCount() * commentWeight;
+        double ageHours = Math.max(0, Duration.between(p.getCreatedAt(), now).toMinutes()) / 60.0;
+        return points / Math.pow(ageHours + 2, gravity);
+    }
+
+    private record Scored(PostSummaryResponse post, double score) {
+    }
+
+    /** 최소 힙: 꽉 차면 가장 낮은 점수와 비교해서 교체 → 후보 n 개에 O(n log K) */
+    private PriorityQueue<Scored> newHeap() {
+        return new PriorityQueue<>(topK + 1, Comparator.comparingDouble(Scored::score));
+    }
+
+    private void offer(PriorityQueue<Scored> heap, Scored s) {
+        if (heap.size() < topK) {
+            heap.add(s);
+        } else if (topK > 0 && heap.peek().score() < s.score()) {
+            heap.poll();
+            heap.add(s);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostSaved(PostSavedEvent event) {
+        LocalDateTime oldest = LocalDateTime.now().minus(window);
+        var summary = postRepository.findPublishedSummary(event.postId())
+                .map(PostSummaryResponse::of)
+                .filter(p -> p.getCreatedAt() != null && p.getCreatedAt().isAfter(oldest));
+
+        if (summary.isPresent()) {
+            candidates.put(event.postId(), summary.get());
+        } else if (candidates.remove(event.postId()) != null) {
+            // 삭제/비공개는 다음 주기까지 기다리지 않고 바로 랭킹에서 뺌
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        int delta = event.liked() ? 1 : -1;
+        update(event.postId(), p -> p.toBuilder().likeCount(Math.max(0, p.getLikeCount() + delta)).build());
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        update(event.postId(), p -> p.toBuilder().commentCount(p.getCommentCount() + 1).build());
+    }
+
+    private void update(Long postId, UnaryOperator<PostSummaryResponse> change) {
+        candidates.computeIfPresent(postId, (id, p) -> change.apply(p));
+    }
+
+    private static String key(PostCategory category) {
+        return category == null ? ALL : category.name();
+    }
+}
@@ -0,0 +1,127 @@
+package ssedamseedam.ssedam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ssedamseedam.ssedam.datasource.PrimaryReads;
+import ssedamseedam.ssedam.event.CommentLikeChangedEvent;
+import ssedamseedam.ssedam.event.PostLikeChangedEvent;
+import ssedamseedam.ssedam.repository.CommentLikeRepository;
+import ssedamseedam.ssedam.repository.PostLikeRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 유저별 좋아요 집합 (게시글/댓글 id 를 Roaring 비트맵으로 압축 보관)
+ * - 처음 조회할 때 DB 에서 한 번 로딩, 이후 좋아요 이벤트(커밋 후)로 갱신
+ * - 크기 제한 + 접근 만료로 오래 안 쓰는 유저는 내보냄
+ * - 비트맵은 복사 후 교체(copy-on-write)라서 읽는 쪽은 락 없이 contains 가능
+ * - id 가 int 범위를 넘으면 비트맵에 못 넣으므로 DB 조회로 대체해야 함 (inRange 확인)
+ */
+@Component
+public class UserLikeIndex {
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final Cache<Long, UserLikes> cache;
+
+    public UserLikeIndex(PostLikeRepository postLikeRepository,
+                         CommentLikeRepository commentLikeRepository,
+                         @Value("${community.like-index.max-users:100000}") long maxUsers,
+                         @Value("${community.like-index.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.postLikeRepository = postLikeRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    /** 한 유저의 좋아요 스냅샷 (불변) */
+    public record UserLikes(RoaringBitmap posts, RoaringBitmap comments) {
+
+        public boolean likesPost(Long postId) {
+            return inRange(postId) && posts.contains(postId.intValue());
+        }
+
+        public boolean likesComment(Long commentId) {
+            return inRange(commentId) && comments.contains(commentId.intValue());
+        }
+
+        long sizeInBytes() {
+            return posts.getLongSizeInBytes() + comments.getLongSizeInBytes();
+        }
+    }
+
+    public UserLikes get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    public static boolean inRange(Long id) {
+        return id != null && id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    private UserLikes load(Long userId) {
+        return PrimaryReads.call(() -> new UserLikes(
+                toBitmap(postLikeRepository.findPostIdsByUserId(userId)),
+                toBitmap(commentLikeRepository.findCommentIdsByUserId(userId))));
+    }
+
+    private static RoaringBitmap toBitmap(List<Long> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long id : ids) {
+            if (inRange(id)) bitmap.add(id.intValue());
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    @TransactionalEventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        if (!inRange(event.postId())) {
+            cache.invalidate(event.userId());
+            return;
+        }
+        cache.asMap().computeIfPresent(event.userId(), (id, cur) ->
+                new UserLikes(toggle(cur.posts(), event.postId().intValue(), event.liked()), cur.comments()));
+    }
+
+    @TransactionalEventListener
+    public void onCommentLikeChanged(CommentLikeChangedEvent event) {
+        if (!inRange(event.commentId())) {
+            cache.invalidate(event.userId());
+            return;
+        }
+        cache.asMap().computeIfPresent(event.userId(), (id, cur) ->
+                new UserLikes(cur.posts(), toggle(cur.comments(), event.commentId().intValue(), event.liked())));
+    }
+
+    private static RoaringBitmap toggle(RoaringBitmap cur, int id, boolean add) {
+        RoaringBitmap next = cur.clone();
+        if (add) {
+            next.add(id);
+        } else {
+            next.remove(id);
+        }
+        return next;
+    }
+
+    /** 캐시된 유저 수 */
+    public long userCount() {
+        return cache.estimatedSize();
+    }
+
+    /** 캐시된 비트맵 전체 크기 (객체 헤더 제외 추정치) */
+    public long bitmapBytes() {
+        return cache.asMap().values().stream().mapToLong(UserLikes::sizeInBytes).sum();
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+}
@@ -1,32 +1,55 @@
 package ssedamseedam.ssedam.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ssedamseedam.ssedam.datasource.PrimaryReads;
 import ssedamseedam.ssedam.domain.User;
 import ssedamseedam.ssedam.dto.UserLoginRequest;
 import ssedamseedam.ssedam.dto.UserSignupRequest;
 import ssedamseedam.ssedam.repository.UserRepository;
 
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;     // bcrypt 는 전용 스레드 풀에서
+    private final CredentialCache credentialCache;
+    private final NameAvailabilityFilter nameFilter;  // 중복 확인 빠른 경로
 
-    // 중복 체크
+    // 중복 체크 (필터가 "확실히 없음"이면 DB 조회 생략)
+    // - 클래스의 readOnly 트랜잭션을 열면 필터로 끝나는 요청도 연결을 잡으므로 SUPPORTS
+    // - exists* 폴백만 리포지토리 자체 읽기 트랜잭션 안에서 연결을 씀
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isUsernameAvailable(String username) {
-        return !userRepository.existsByUsername(username);
+        if (nameFilter.usernameDefinitelyAbsent(username)) return true;
+        boolean exists = userRepository.existsByUsername(username);
+        nameFilter.recordUsernameCheck(exists);
+        return !exists;
     }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isNicknameAvailable(String nickname) {
-        return !userRepository.existsByNickname(nickname);
+        if (nameFilter.nicknameDefinitelyAbsent(nickname)) return true;
+        boolean exists = userRepository.existsByNickname(nickname);
+        nameFilter.recordNicknameCheck(exists);
+        return !exists;
     }
 
-    @Transactional
-    public void register(UserSignupRequest dto) {
+    /**
+     * 회원가입
+     * - 중복/비밀번호 확인은 요청 스레드에서 먼저 (해시 전에 빨리 실패)
+     * - 해시 후 저장은 해시 스레드에서 (save 가 자체 트랜잭션)
+     * - 최종 중복 확인은 필터가 아니라 DB (유니크 인덱스가 최종 판정)
+     */
+    public CompletableFuture<Void> register(UserSignupRequest dto) {
         if (userRepository.existsByUsername(dto.getUsername())) {
             throw new IllegalStateException("이미 사용 중인 아이디입니다.");
         }
@@ -37,22 +60,57 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        User user = User.builder()
-                .name(dto.getName())
-                .username(dto.getUsername())
-                .nickname(dto.getNickname())
-                .password(passwordEncoder.encode(dto.getPassword()))
-                .build();
-
-        userRepository.save(user);
+        return passwordHasher.encode(dto.getPassword()).thenAccept(hash -> {
+            User user = User.builder()
+                    .name(dto.getName())
+                    .username(dto.getUsername())
+                    .nickname(dto.getNickname())
+                    .password(hash)
+                    .build();
+            userRepository.save(user);
+            nameFilter.add(user.getUsername(), user.getNickname());
+        });
     }
 
-    public User login(UserLoginRequest dto) {
-        User user = userRepository.findByUsername(dto.getUsername())
+    /**
+     * 로그인
+     * - 최근 성공한 자격 증명이면 bcrypt 생략
+     * - 저장된 해시의 비용이 현재 설정보다 낮으면 성공 후 백그라운드에서 재해시
+     */
+    public CompletableFuture<User> login(UserLoginRequest dto) {
+        // 가입(유저 식별 없는 쓰기) 직후 로그인도 찾도록 primary 에서
+        User user = PrimaryReads.call(() -> userRepository.findByUsername(dto.getUsername()))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이디입니다."));
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 올바르지 않습니다.");
+        if (credentialCache.matches(user, dto.getPassword())) {
+            return CompletableFuture.completedFuture(user);
+        }
+
+        return passwordHasher.matches(dto.getPassword(), user.getPassword()).thenApply(ok -> {
+            if (!ok) {
+                throw new IllegalArgumentException("비밀번호가 올바르지 않습니다.");
+            }
+            if (passwordHasher.needsUpgrade(user.getPassword())) {
+                rehash(user, dto.getPassword());
+            } else {
+                credentialCache.put(user, dto.getPassword());
+            }
+            return user;
+        });
+    }
+
+    private void rehash(User user, String rawPassword) {
+        String oldHash = user.getPassword();
+        try {
+            passwordHasher.encode(rawPassword).thenAccept(newHash -> {
+                if (userRepository.updatePasswordHash(user.getId(), oldHash, newHash) == 1) {
+                    credentialCache.invalidate(user.getId());
+                }
+            }).exceptionally(e -> {
+                log.warn("비밀번호 재해시 실패: userId={}", user.getId(), e);
+                return null;
+            });
+        } catch (PasswordHashingBusyException e) {
+            // 바쁘면 다음 로그인 때 다시
         }
-        return user;
     }
-}
\ No newline at end of file
+}
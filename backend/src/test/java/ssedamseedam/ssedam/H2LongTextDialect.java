@@ -0,0 +1,20 @@
+package ssedamseedam.ssedam;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 테스트용 H2 방언: @Lob 문자열 컬럼을 CLOB 대신 가변 문자열로 만듦
+ * - MySQL 은 LONGTEXT 를 String 으로 돌려주지만 H2 의 CLOB 은 Clob 객체라
+ *   네이티브 쿼리 인터페이스 프로젝션(String 게터)에서 변환 실패 → 운영 DB 와 같게 맞춤
+ */
+public class H2LongTextDialect extends H2Dialect {
+
+    @Override
+    protected String columnType(int sqlTypeCode) {
+        return switch (sqlTypeCode) {
+            case SqlTypes.CLOB, SqlTypes.NCLOB -> "character varying";
+            default -> super.columnType(sqlTypeCode);
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package ssedamseedam.ssedam.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ssedamseedam.ssedam.config.QueryCounter;
+import ssedamseedam.ssedam.domain.Comment;
+import ssedamseedam.ssedam.domain.Post;
+import ssedamseedam.ssedam.domain.PostCategory;
+import ssedamseedam.ssedam.domain.PostLike;
+import ssedamseedam.ssedam.domain.User;
+import ssedamseedam.ssedam.repository.CommentRepository;
+import ssedamseedam.ssedam.repository.PostLikeRepository;
+import ssedamseedam.ssedam.repository.PostRepository;
+import ssedamseedam.ssedam.repository.UserRepository;
+import ssedamseedam.ssedam.security.AccessTokens;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록/댓글 페이지 엔드포인트의 SQL 수 고정 (N+1 회귀 방지)
+ * - H2(MySQL 모드), 데이터는 엔드포인트 호출 전에 넣고 커밋 → 범위 안에서는 조회 SQL 만 셈
+ * - 행 수가 달라도 쿼리 수가 같아야 함
+ * - 테스트마다 넣은 행은 지움 (목록 count 쿼리 유무가 다른 테스트 데이터에 좌우되지 않게)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommunityQueryCountTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private AccessTokens accessTokens;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM post_like");
+        jdbcTemplate.update("DELETE FROM comment WHERE parent_id IS NOT NULL");
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM post_image");
+        jdbcTemplate.update("DELETE FROM post");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    /** 목록: 요약 프로젝션 1 + 페이지 count 1 (작성자/이미지 지연 로딩 없음) */
+    @Test
+    void postListUsesTwoQueriesRegardlessOfPageSize() throws Exception {
+        User author = user();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            posts.add(post(author, "글 " + i));
+        }
+        postRepository.saveAll(posts);
+
+        for (int size : new int[]{5, 20}) {
+            try (QueryCounter.Scope scope = QueryCounter.open()) {
+                mockMvc.perform(get("/api/community/posts").param("size", String.valueOf(size)))
+                        .andExpect(status().isOk());
+                scope.assertCount(2);
+            }
+        }
+    }
+
+    /**
+     * 로그인 목록: liked 는 유저별 좋아요 비트맵에서 → 첫 요청만 비트맵 로딩(글/댓글 좋아요 각 1), 이후엔 목록 쿼리만
+     * (IN 조회는 id 가 int 범위를 넘을 때의 대체 경로라 여기서는 안 나옴)
+     */
+    @Test
+    void loggedInPostListAddsLikesWithoutPerRowQueries() throws Exception {
+        User author = user();
+        User reader = user();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            posts.add(post(author, "글 " + i));
+        }
+        postRepository.saveAll(posts);
+        postLikeRepository.saveAll(posts.stream()
+                .map(p -> PostLike.builder().post(p).user(reader).build())
+                .toList());
+        String bearer = "Bearer " + accessTokens.issue(reader.getId(), reader.getNickname());
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            mockMvc.perform(get("/api/community/posts").param("size", "20")
+                            .header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isOk());
+            scope.assertCount(4);
+        }
+
+        for (int size : new int[]{5, 20}) {
+            try (QueryCounter.Scope scope = QueryCounter.open()) {
+                mockMvc.perform(get("/api/community/posts").param("size", String.valueOf(size))
+                                .header(HttpHeaders.AUTHORIZATION, bearer))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content[0].liked").value(true));
+                scope.assertCount(2);
+            }
+        }
+    }
+
+    @Test
+    void postListByCategoryStaysWithinBudget() throws Exception {
+        User author = user();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            posts.add(post(author, "팁 " + i));
+        }
+        postRepository.saveAll(posts);
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            mockMvc.perform(get("/api/community/posts")
+                            .param("category", PostCategory.TIP.name())
+                            .param("size", "5"))
+                    .andExpect(status().isOk());
+            scope.assertAtMost(2);
+        }
+    }
+
+    /** 댓글 페이지: 부모 페이지 1 + 대댓글 미리보기 1 + 미리보기의 대댓글 수 1 */
+    @Test
+    void commentPageUsesThreeQueriesRegardlessOfCommentCount() throws Exception {
+        User author = user();
+        Post small = postWithComments(author, 3, 4);
+        Post large = postWithComments(author, 30, 4);
+
+        for (Post post : List.of(small, large)) {
+            try (QueryCounter.Scope scope = QueryCounter.open()) {
+                mockMvc.perform(get("/api/community/posts/{postId}/comments/paged", post.getId())
+                                .param("size", "20"))
+                        .andExpect(status().isOk());
+                scope.assertCount(3);
+            }
+        }
+    }
+
+    @Test
+    void commentPageWithoutRepliesStaysWithinBudget() throws Exception {
+        Post post = postWithComments(user(), 5, 0);
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            mockMvc.perform(get("/api/community/posts/{postId}/comments/paged", post.getId()))
+                    .andExpect(status().isOk());
+            scope.assertAtMost(3);
+        }
+    }
+
+    private User user() {
+        int n = SEQ.incrementAndGet();
+        return userRepository.save(User.builder()
+                .name("테스트" + n)
+                .username("tester" + n)
+                .nickname("닉네임" + n)
+                .password("{noop}pw")
+                .build());
+    }
+
+    private static Post post(User author, String title) {
+        Post post = Post.builder()
+                .author(author)
+                .category(PostCategory.TIP)
+                .title(title)
+                .build();
+        post.changeContent(title + " 본문", 120);
+        return post;
+    }
+
+    private Post postWithComments(User author, int parents, int repliesEach) {
+        Post post = postRepository.save(post(author, "댓글 글"));
+        List<Comment> roots = new ArrayList<>();
+        for (int i = 0; i < parents; i++) {
+            roots.add(Comment.builder().post(post).author(author).content("댓글 " + i).build());
+        }
+        commentRepository.saveAll(roots);
+
+        List<Comment> replies = new ArrayList<>();
+        for (Comment parent : roots) {
+            for (int j = 0; j < repliesEach; j++) {
+                replies.add(Comment.builder().post(post).author(author).parent(parent).content("대댓글 " + j).build());
+            }
+        }
+        commentRepository.saveAll(replies);
+        return post;
+    }
+}
@@ -0,0 +1,184 @@
+package ssedamseedam.ssedam.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ssedamseedam.ssedam.security.AuthUser;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 라우팅 판정 (트랜잭션 종류, 복제 지연, read-your-writes, primary 고정)
+ * - 복제본은 SHOW REPLICA STATUS 결과를 흉내 낸 목 DataSource
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writesGoToPrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(0L)), Duration.ofSeconds(10));
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyGoesToFreshReplica() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(2L)), Duration.ofSeconds(10));
+        readOnly();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void readOnlyRoundRobinsAcrossReplicas() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(0L), replica(0L)), Duration.ofSeconds(10));
+        readOnly();
+
+        assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey()))
+                .containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @Test
+    void laggingOrBrokenReplicasFallBackToPrimary() throws SQLException {
+        ReplicaPool pool = pool(Duration.ofSeconds(5), replica(30L), replica(null), failingReplica());
+        ReplicaRoutingDataSource routing = routing(pool, Duration.ofSeconds(10));
+        readOnly();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(pool.replicas()).extracting(ReplicaPool.Replica::lagSeconds).containsExactly(30L, -1L, -1L);
+    }
+
+    @Test
+    void skipsLaggingReplicaButUsesHealthyOne() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(30L), replica(1L)), Duration.ofSeconds(10));
+        readOnly();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void replicasAreUnusableBeforeFirstLagCheck() throws SQLException {
+        ReplicaPool pool = new ReplicaPool(List.of(replica(0L)), Duration.ofSeconds(5));
+        ReplicaRoutingDataSource routing = routing(pool, Duration.ofSeconds(10));
+        readOnly();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void committedWriteRoutesThatUsersReadsToPrimaryForWindow() throws Exception {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(0L)), Duration.ofMillis(200));
+        login(7L);
+
+        // 쓰기 트랜잭션: 커밋 후 유저 기록
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        readOnly();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        login(8L);   // 다른 유저는 그대로 복제본
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+
+        login(7L);
+        Thread.sleep(300);   // 기간이 지나면 다시 복제본
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotMarkUser() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(0L)), Duration.ofSeconds(10));
+        login(7L);
+
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        readOnly();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void pinnedReadsGoToPrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(pool(Duration.ofSeconds(5), replica(0L)), Duration.ofSeconds(10));
+        readOnly();
+
+        assertThat(PrimaryReads.call(routing::determineCurrentLookupKey)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");   // 범위 밖에서는 원래대로
+        assertThat(meterRegistry.get("datasource.routing")
+                .tag("target", ReplicaRoutingDataSource.PRIMARY)
+                .tag("reason", "pinned")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaPool pool, Duration readYourWritesWindow) {
+        return new ReplicaRoutingDataSource(mock(DataSource.class), pool,
+                new ReadYourWrites(readYourWritesWindow, 1000), meterRegistry);
+    }
+
+    /** 지연 확인을 한 번 돌린 풀 */
+    private static ReplicaPool pool(Duration maxLag, DataSource... replicas) {
+        ReplicaPool pool = new ReplicaPool(List.of(replicas), maxLag);
+        pool.checkLag();
+        return pool;
+    }
+
+    /** Seconds_Behind_Source 가 lag 인 복제본 (null 이면 복제 중단) */
+    private static DataSource replica(Long lag) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong(anyString())).thenReturn(lag == null ? 0L : lag);
+        when(rs.wasNull()).thenReturn(lag == null);
+        Statement st = mock(Statement.class);
+        when(st.executeQuery(anyString())).thenReturn(rs);
+        Connection con = mock(Connection.class);
+        when(con.createStatement()).thenReturn(st);
+        DataSource ds = mock(DataSource.class);
+        when(ds.getConnection()).thenReturn(con);
+        return ds;
+    }
+
+    private static DataSource failingReplica() throws SQLException {
+        DataSource ds = mock(DataSource.class);
+        when(ds.getConnection()).thenThrow(new SQLException("connection refused"));
+        return ds;
+    }
+
+    private static void readOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private static void login(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthUser(userId, "nick"), null, List.of()));
+    }
+}
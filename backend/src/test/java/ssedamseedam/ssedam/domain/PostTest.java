@@ -0,0 +1,93 @@
+package ssedamseedam.ssedam.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostTest {
+
+    @Test
+    void excerptCollapsesWhitespaceAndTruncates() {
+        assertThat(Post.excerptOf("  첫 줄\n\n둘째   줄\t끝  ", 100)).isEqualTo("첫 줄 둘째 줄 끝");
+        assertThat(Post.excerptOf("abcdef", 3)).isEqualTo("abc");
+        assertThat(Post.excerptOf(null, 10)).isNull();
+    }
+
+    @Test
+    void excerptDoesNotSplitSurrogatePairs() {
+        String text = "ab😀😀cd";
+
+        assertThat(Post.excerptOf(text, 3)).isEqualTo("ab😀");
+        assertThat(Post.excerptOf(text, 4)).isEqualTo("ab😀😀");
+    }
+
+    @Test
+    void excerptLengthIsCappedAtColumnSize() {
+        String text = "가".repeat(Post.EXCERPT_MAX_LENGTH + 100);
+
+        assertThat(Post.excerptOf(text, Integer.MAX_VALUE)).hasSize(Post.EXCERPT_MAX_LENGTH);
+        assertThat(Post.excerptOf(text, -1)).isEmpty();
+    }
+
+    @Test
+    void replaceImagesKeepsUnchangedRowsAndOnlyAddsNewOnes() {
+        Post post = postWithImages("a", "b", "c");
+        List<PostImage> original = post.getImages();
+        PostImage a = image(post, "a");
+        PostImage c = image(post, "c");
+
+        assertThat(post.replaceImages(List.of("c", "a", "d"))).isTrue();
+        assertThat(post.getUpdatedAt()).isNotNull();   // 이미지만 바뀌어도 ETag 가 달라지게
+
+        assertThat(post.getImages()).isSameAs(original);   // orphanRemoval 이 보는 컬렉션 유지
+        assertThat(post.getImages()).extracting(PostImage::getImageUrl).containsExactly("c", "a", "d");
+        assertThat(post.getImages()).extracting(PostImage::getSortOrder).containsExactly(0, 1, 2);
+        assertThat(post.getImages().get(0)).isSameAs(c);
+        assertThat(post.getImages().get(1)).isSameAs(a);
+
+        PostImage added = post.getImages().get(2);
+        assertThat(added.getId()).isNull();
+        assertThat(added.getPost()).isSameAs(post);
+    }
+
+    @Test
+    void replaceImagesWithSameListChangesNothing() {
+        Post post = postWithImages("a", "b");
+        List<PostImage> before = List.copyOf(post.getImages());
+
+        assertThat(post.replaceImages(List.of("a", "b"))).isFalse();
+
+        assertThat(post.getUpdatedAt()).isNull();
+        assertThat(post.getImages()).containsExactlyElementsOf(before);
+        assertThat(post.getImages()).extracting(PostImage::getSortOrder).containsExactly(0, 1);
+    }
+
+    @Test
+    void replaceImagesHandlesDuplicatesAndNull() {
+        Post post = postWithImages("a", "a");
+        PostImage first = post.getImages().get(0);
+
+        assertThat(post.replaceImages(List.of("a"))).isTrue();   // 중복 하나만 빠져도 변경
+        assertThat(post.getImages()).containsExactly(first);
+
+        post.replaceImages(null);
+        assertThat(post.getImages()).isEmpty();
+    }
+
+    /** 저장된 이미지처럼 id 를 채워 둠 */
+    private static Post postWithImages(String... urls) {
+        Post post = Post.builder().images(new ArrayList<>()).build();
+        long id = 1;
+        for (String url : urls) {
+            post.addImage(PostImage.builder().id(id++).imageUrl(url).build());
+        }
+        return post;
+    }
+
+    private static PostImage image(Post post, String url) {
+        return post.getImages().stream().filter(i -> i.getImageUrl().equals(url)).findFirst().orElseThrow();
+    }
+}
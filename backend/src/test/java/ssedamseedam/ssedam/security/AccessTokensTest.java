@@ -0,0 +1,70 @@
+package ssedamseedam.ssedam.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokensTest {
+
+    private final AccessTokens tokens = new AccessTokens("test-secret", Duration.ofHours(1));
+
+    @Test
+    void verifiesIssuedToken() {
+        String token = tokens.issue(42L, "닉:네임");
+
+        assertThat(tokens.verify(token)).contains(new AuthUser(42L, "닉:네임"));
+    }
+
+    @Test
+    void nullNicknameBecomesEmpty() {
+        assertThat(tokens.verify(tokens.issue(1L, null))).contains(new AuthUser(1L, ""));
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = tokens.issue(42L, "nick");
+        String signature = token.substring(token.indexOf('.') + 1);
+        String forgedBody = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1:9999999999:nick".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(tokens.verify(forgedBody + "." + signature)).isEmpty();
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = tokens.issue(42L, "nick");
+        // 마지막 글자는 하위 비트가 버려질 수 있어 서명 첫 글자를 바꿈
+        int at = token.indexOf('.') + 1;
+        char c = token.charAt(at);
+        String flipped = token.substring(0, at) + (c == 'A' ? 'B' : 'A') + token.substring(at + 1);
+
+        assertThat(tokens.verify(flipped)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenSignedWithOtherKey() {
+        String token = new AccessTokens("other-secret", Duration.ofHours(1)).issue(42L, "nick");
+
+        assertThat(tokens.verify(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = new AccessTokens("test-secret", Duration.ofSeconds(-10)).issue(42L, "nick");
+
+        assertThat(tokens.verify(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThat(tokens.verify(null)).isEmpty();
+        assertThat(tokens.verify("")).isEmpty();
+        assertThat(tokens.verify("no-dot")).isEmpty();
+        assertThat(tokens.verify(".sig")).isEmpty();
+        assertThat(tokens.verify("!!!.???")).isEmpty();
+    }
+}
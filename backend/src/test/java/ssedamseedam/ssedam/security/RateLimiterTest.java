@@ -0,0 +1,70 @@
+package ssedamseedam.ssedam.security;
+
+import org.junit.jupiter.api.Test;
+import ssedamseedam.ssedam.security.RateLimiter.Decision;
+import ssedamseedam.ssedam.security.RateLimiter.Group;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    /** 회복 시간을 길게 잡아 테스트 도중 토큰이 돌아오지 않게 함 */
+    private static RateLimiter limiter(String ai) {
+        return new RateLimiter(true, 1000, ai, "20/1h", "10/1h");
+    }
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        RateLimiter limiter = limiter("3/1h");
+
+        Decision first = limiter.tryAcquire(Group.AI, "u1");
+        Decision second = limiter.tryAcquire(Group.AI, "u1");
+        Decision third = limiter.tryAcquire(Group.AI, "u1");
+        Decision fourth = limiter.tryAcquire(Group.AI, "u1");
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.limit()).isEqualTo(3);
+        assertThat(first.remaining()).isEqualTo(2);
+        assertThat(second.remaining()).isEqualTo(1);
+        assertThat(third.allowed()).isTrue();
+        assertThat(third.remaining()).isZero();
+
+        assertThat(fourth.allowed()).isFalse();
+        assertThat(fourth.remaining()).isZero();
+        // 토큰 하나 회복 간격(1h / 3 = 20m) 안쪽
+        assertThat(fourth.retryAfterNanos()).isPositive()
+                .isLessThanOrEqualTo(Duration.ofMinutes(20).toNanos());
+    }
+
+    @Test
+    void keysAndGroupsHaveSeparateBuckets() {
+        RateLimiter limiter = limiter("1/1h");
+
+        assertThat(limiter.tryAcquire(Group.AI, "u1").allowed()).isTrue();
+        assertThat(limiter.tryAcquire(Group.AI, "u1").allowed()).isFalse();
+
+        assertThat(limiter.tryAcquire(Group.AI, "u2").allowed()).isTrue();
+        assertThat(limiter.tryAcquire(Group.LOGIN, "u1").allowed()).isTrue();
+        assertThat(limiter.bucketCount()).isEqualTo(3);
+    }
+
+    @Test
+    void recoversAfterInterval() throws InterruptedException {
+        RateLimiter limiter = limiter("1/50ms");
+
+        assertThat(limiter.tryAcquire(Group.AI, "u1").allowed()).isTrue();
+        assertThat(limiter.tryAcquire(Group.AI, "u1").allowed()).isFalse();
+
+        Thread.sleep(80);
+        assertThat(limiter.tryAcquire(Group.AI, "u1").allowed()).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidSpec() {
+        assertThatThrownBy(() -> limiter("0/1m")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter("5/0s")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package ssedamseedam.ssedam.service;
+
+import org.junit.jupiter.api.Test;
+import ssedamseedam.ssedam.service.CommunityService.CommentCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+
+    @Test
+    void roundTrips() {
+        CommentCursor cursor = new CommentCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");   // URL 에 그대로
+        assertThat(CommentCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void emptyCursorMeansFirstPage() {
+        assertThat(CommentCursor.decode(null)).isNull();
+        assertThat(CommentCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        String noSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-05-01T12:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-05-01T12:30|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CommentCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentCursor.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package ssedamseedam.ssedam.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameAvailabilityFilterTest {
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        NameAvailabilityFilter.BloomFilter filter = new NameAvailabilityFilter.BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("user" + i)).as("user" + i).isTrue();
+        }
+    }
+
+    @Test
+    void bloomFilterFalsePositiveRateStaysNearTarget() {
+        NameAvailabilityFilter.BloomFilter filter = new NameAvailabilityFilter.BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("user" + i);
+        }
+
+        int probes = 20_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent" + i)) falsePositives++;
+        }
+        // 목표 1%, 해시 편차를 감안해 3% 까지 허용
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        NameAvailabilityFilter.BloomFilter filter = new NameAvailabilityFilter.BloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("anyone")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void statsTrackFalsePositives() {
+        NameAvailabilityFilter.BloomFilter filter = new NameAvailabilityFilter.BloomFilter(100, 0.01);
+        filter.put("a");
+        filter.recordCheck(true);
+        filter.recordCheck(false);
+
+        assertThat(filter.stats())
+                .containsEntry("insertions", 1L)
+                .containsEntry("dbChecks", 2L)
+                .containsEntry("falsePositives", 1L);
+    }
+
+    @Test
+    void normalizeFoldsCaseAndAccents() {
+        assertThat(NameAvailabilityFilter.normalize("  Ämélie ")).isEqualTo("amelie");
+        assertThat(NameAvailabilityFilter.normalize("ＡＢＣ")).isEqualTo("abc");   // 전각 → NFKD
+        assertThat(NameAvailabilityFilter.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void normalizeFoldsCollationExpansionsAndIgnorables() {
+        assertThat(NameAvailabilityFilter.normalize("Straße")).isEqualTo(NameAvailabilityFilter.normalize("STRASSE"));
+        assertThat(NameAvailabilityFilter.normalize("ẞ")).isEqualTo("ss");
+        assertThat(NameAvailabilityFilter.normalize("Æsir")).isEqualTo("aesir");
+        assertThat(NameAvailabilityFilter.normalize("Œuvre")).isEqualTo("oeuvre");
+        assertThat(NameAvailabilityFilter.normalize("a\u200Bb")).isEqualTo("ab");   // 폭 없는 공백
+    }
+}
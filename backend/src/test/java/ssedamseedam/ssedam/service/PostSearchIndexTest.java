@@ -0,0 +1,100 @@
+package ssedamseedam.ssedam.service;
+
+import org.junit.jupiter.api.Test;
+import ssedamseedam.ssedam.domain.PostCategory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    /** 색인/검색만 쓰므로 리포지토리 없이 */
+    private static PostSearchIndex index() {
+        return new PostSearchIndex(null, 0.3);
+    }
+
+    @Test
+    void tokenizeSplitsHangulIntoBigramsAndLowercasesWords() {
+        assertThat(PostSearchIndex.tokenize("페트병 PET-Bottle"))
+                .containsExactly("페트", "트병", "pet", "bottle");
+    }
+
+    @Test
+    void tokenizeSeparatesScriptRunsAndKeepsSingleSyllables() {
+        // 숫자와 한글이 붙어 있어도 구간이 나뉘고, 한 글자 구간은 그대로
+        assertThat(PostSearchIndex.tokenize("2개 캔")).containsExactly("2", "개", "캔");
+        assertThat(PostSearchIndex.tokenize("  ")).isEmpty();
+        assertThat(PostSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void titleMatchRanksAboveContentMatch() {
+        PostSearchIndex index = index();
+        index.upsert(1L, PostCategory.QUESTION, "페트병 분리수거", "라벨을 떼세요");
+        index.upsert(2L, PostCategory.TIP, "캔 분리수거", "페트병 도 같이");
+        index.upsert(3L, PostCategory.TIP, "유리병", "깨지지 않게");
+
+        List<PostSearchIndex.Hit> hits = index.search("페트병", null, 10);
+
+        assertThat(hits).extracting(PostSearchIndex.Hit::postId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void rarerTermsWeighMore() {
+        PostSearchIndex index = index();
+        index.upsert(1L, PostCategory.TIP, "분리수거 방법", "");
+        index.upsert(2L, PostCategory.TIP, "분리수거 스티로폼", "");
+        index.upsert(3L, PostCategory.TIP, "분리수거 안내", "");
+
+        // "분리수거" 는 모든 글에 있고 "스티로폼" 은 한 글에만 있음
+        List<PostSearchIndex.Hit> hits = index.search("분리수거 스티로폼", null, 10);
+
+        assertThat(hits.get(0).postId()).isEqualTo(2L);
+    }
+
+    @Test
+    void categoryFilterAndLimit() {
+        PostSearchIndex index = index();
+        index.upsert(1L, PostCategory.QUESTION, "페트병 질문", "");
+        index.upsert(2L, PostCategory.TIP, "페트병 팁", "");
+        index.upsert(3L, PostCategory.TIP, "페트병 라벨 팁", "");
+
+        assertThat(index.search("페트병", PostCategory.TIP, 10))
+                .extracting(PostSearchIndex.Hit::postId)
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("페트병", PostCategory.REVIEW, 10)).isEmpty();
+        assertThat(index.search("페트병", null, 1)).hasSize(1);
+    }
+
+    @Test
+    void upsertReplacesAndRemoveDrops() {
+        PostSearchIndex index = index();
+        index.upsert(1L, PostCategory.TIP, "페트병", "");
+        index.upsert(1L, PostCategory.TIP, "유리병", "");
+
+        assertThat(index.search("페트병", null, 10)).isEmpty();
+        assertThat(index.search("유리병", null, 10)).extracting(PostSearchIndex.Hit::postId).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("유리병", null, 10)).isEmpty();
+        assertThat(index.stats()).containsEntry("liveDocs", 0);
+    }
+
+    @Test
+    void compactionKeepsResults() {
+        PostSearchIndex index = index();
+        for (long id = 1; id <= 2000; id++) {
+            index.upsert(id, PostCategory.TIP, id % 2 == 0 ? "페트병 " + id : "유리병 " + id, "");
+        }
+        for (long id = 1; id <= 2000; id += 2) {
+            index.remove(id);   // 절반 삭제 → 압축 기준(0.3) 넘김
+        }
+
+        assertThat(index.stats()).containsEntry("liveDocs", 1000);
+        assertThat((Integer) index.stats().get("deadDocs")).isLessThan(1000);
+        assertThat(index.search("페트병", PostCategory.TIP, 2000)).hasSize(1000);
+        assertThat(index.search("유리병", null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+-- 스키마는 JPA ddl-auto=update 로 생성/갱신된다.
+-- 아래는 ddl-auto 가 처리하지 못하는 기존 DB 수동 변경 사항.
+
+-- post.status: MySQL ENUM('DRAFT','PUBLISHED') → VARCHAR (HIDDEN 상태 추가)
+ALTER TABLE post MODIFY status VARCHAR(20);
+
+-- id 생성: IDENTITY → 테이블 시퀀스 (JDBC 배치 INSERT 를 위해)
+-- 기존 DB 는 앱 기동 전에 한 번만 실행 (시작값 = 현재 최대 id + 1, 새 DB 는 ddl-auto 가 1 로 생성)
+-- post_like / comment_like / post_report 는 INSERT IGNORE 네이티브 쿼리를 쓰므로 AUTO_INCREMENT 유지
+CREATE TABLE users_seq (next_val BIGINT);
+INSERT INTO users_seq SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+CREATE TABLE post_seq (next_val BIGINT);
+INSERT INTO post_seq SELECT COALESCE(MAX(id), 0) + 1 FROM post;
+CREATE TABLE post_image_seq (next_val BIGINT);
+INSERT INTO post_image_seq SELECT COALESCE(MAX(id), 0) + 1 FROM post_image;
+CREATE TABLE comment_seq (next_val BIGINT);
+INSERT INTO comment_seq SELECT COALESCE(MAX(id), 0) + 1 FROM comment;
+CREATE TABLE faqs_seq (next_val BIGINT);
+INSERT INTO faqs_seq SELECT COALESCE(MAX(id), 0) + 1 FROM faqs;
+CREATE TABLE faq_vote_seq (next_val BIGINT);
+INSERT INTO faq_vote_seq SELECT COALESCE(MAX(id), 0) + 1 FROM faq_vote;
+CREATE TABLE faq_feedback_seq (next_val BIGINT);
+INSERT INTO faq_feedback_seq SELECT COALESCE(MAX(id), 0) + 1 FROM faq_feedback;